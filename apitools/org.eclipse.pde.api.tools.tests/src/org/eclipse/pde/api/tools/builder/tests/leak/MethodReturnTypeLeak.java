@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 
 import junit.framework.Test;
 
@@ -572,4 +573,38 @@ public class MethodReturnTypeLeak extends LeakTest {
 		deployLeakTest(typename + ".java", inc);
 	}
 
+	/**
+	 * Tests that an incremental build analyzes a dependent again when the type
+	 * it leaks through a method of a public member type becomes package
+	 * visible, i.e. that the API dependency graph of the project records the
+	 * references of member types
+	 */
+	@SuppressWarnings("nls")
+	public void testMethodReturnType24I() throws Exception {
+		boolean autoBuilding = getEnv().getWorkspace().isAutoBuilding();
+		try {
+			getEnv().setAutoBuilding(false);
+			String typename = "testMRL24";
+			IPath source = TestSuiteHelper.getPluginDirectoryPath().append(TEST_SOURCE_ROOT).append(getTestSourcePath());
+			IPath refpath = WORKSPACE_PATH.append("testMRL24ref.java");
+			IPath path = WORKSPACE_PATH.append(typename + ".java");
+			createWorkspaceFile(refpath, source.append("testMRL24ref.java"));
+			createWorkspaceFile(path, source.append(typename + ".java"));
+			fullBuild();
+			expectingNoJDTProblemsFor(path);
+			expectingNoProblemsFor(path);
+			// make the referenced type package visible
+			updateWorkspaceFile(refpath, source.append("dependent").append("testMRL24ref.java"));
+			incrementalBuild();
+			expectingNoJDTProblemsFor(path);
+			setExpectedProblemIds(getDefaultProblemIdSet(1));
+			setExpectedMessageArgs(new String[][] { { "testMRL24ref", "inner", "m1()" } });
+			assertProblems(getEnv().getProblemsFor(path, null));
+		} finally {
+			if (autoBuilding) {
+				getEnv().setAutoBuilding(true);
+			}
+		}
+	}
+
  }
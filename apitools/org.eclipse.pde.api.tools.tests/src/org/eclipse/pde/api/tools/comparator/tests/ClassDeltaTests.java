@@ -3903,4 +3903,23 @@ public class ClassDeltaTests extends DeltaTestSetup {
 		assertTrue("Not compatible", DeltaProcessor.isCompatible(child)); //$NON-NLS-1$
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that comparing baselines in parallel produces the same delta as
+	 * comparing them sequentially
+	 */
+	@Test
+	public void testParallelCompare() throws CoreException {
+		deployBundles("test4"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		IDelta delta = ApiComparator.compare(before, after, VisibilityModifiers.ALL_VISIBILITIES, true, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta parallelDelta = ApiComparator.compare(before, after, VisibilityModifiers.ALL_VISIBILITIES, true, 4, null);
+		assertNotNull("No parallel delta", parallelDelta); //$NON-NLS-1$
+		DeltaXmlVisitor xmlVisitor = new DeltaXmlVisitor();
+		delta.accept(xmlVisitor);
+		DeltaXmlVisitor parallelXmlVisitor = new DeltaXmlVisitor();
+		parallelDelta.accept(parallelXmlVisitor);
+		assertEquals("Different XML", Util.serializeDocument(xmlVisitor.getDocument()), Util.serializeDocument(parallelXmlVisitor.getDocument())); //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,14 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -28,6 +31,10 @@ import java.util.stream.Collectors;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.BundleVersionRange;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
@@ -35,6 +42,7 @@ import org.eclipse.pde.api.tools.internal.provisional.IRequiredComponentDescript
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Util;
@@ -92,6 +100,36 @@ public class ApiBaselineTests {
 		assertEquals("Wrong provider for package", fBaseline.getApiComponent(COMPONENT_A), components[0]); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a baseline restored from a binary snapshot has the same
+	 * components as the original one and resolves packages the same way
+	 */
+	@Test
+	public void testSnapshotRoundTrip() throws Exception {
+		Path file = Files.createTempFile("baseline", ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION); //$NON-NLS-1$
+		IApiBaseline restored = null;
+		try {
+			assertTrue("Snapshot not written", ApiBaselineSnapshot.write(fBaseline, file)); //$NON-NLS-1$
+			assertFalse("Up to date snapshot rewritten", ApiBaselineSnapshot.write(fBaseline, file)); //$NON-NLS-1$
+			restored = ApiBaselineSnapshot.newApiBaseline("snapshot", file, null); //$NON-NLS-1$
+			for (String id : new String[] { COMPONENT_A, COMPONENT_B }) {
+				IApiComponent expected = fBaseline.getApiComponent(id);
+				IApiComponent actual = restored.getApiComponent(id);
+				assertNotNull("Missing restored component " + id, actual); //$NON-NLS-1$
+				assertEquals("Wrong version", expected.getVersion(), actual.getVersion()); //$NON-NLS-1$
+				assertEquals("Wrong location", expected.getLocation(), actual.getLocation()); //$NON-NLS-1$
+			}
+			IApiComponent[] components = restored.resolvePackage(restored.getApiComponent(COMPONENT_B), COMPONENT_A);
+			assertEquals("Wrong size", 1, components.length); //$NON-NLS-1$
+			assertEquals("Wrong provider for package", restored.getApiComponent(COMPONENT_A), components[0]); //$NON-NLS-1$
+		} finally {
+			if (restored != null) {
+				restored.dispose();
+			}
+			Files.deleteIfExists(file);
+		}
+	}
+
 	/**
 	 * Resolves a package within a single component
 	 */
@@ -199,6 +237,59 @@ public class ApiBaselineTests {
 		assertEquals("Wrong type name", "component.a.A", file.getTypeName()); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
+	/**
+	 * Tests that resolutions cached for a baseline are discarded when the
+	 * baseline is disposed
+	 */
+	@Test
+	public void testReferenceResolutionCache() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-nested-jars"); //$NON-NLS-1$
+		IApiComponent component = baseline.getApiComponent(COMPONENT_A);
+		assertNotNull("missing component.a", component); //$NON-NLS-1$
+		IApiTypeRoot root = component.findTypeRoot("component.a.A"); //$NON-NLS-1$
+		assertNotNull("Missing class file", root); //$NON-NLS-1$
+		IApiType type = root.getStructure();
+		String key = "component.b#component.a.A"; //$NON-NLS-1$
+		ReferenceResolutionCache cache = ReferenceResolutionCache.getCache();
+		cache.cacheResolution(baseline, component, key, type);
+		assertEquals("Wrong cached resolution", type, cache.getResolution(baseline, component, key)); //$NON-NLS-1$
+		baseline.dispose();
+		assertNull("Resolution should be discarded", cache.getResolution(baseline, component, key)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that resolutions cached for a referencing component are discarded
+	 * when the component is replaced in its baseline, since its imports
+	 * determine the resolution
+	 */
+	@Test
+	public void testReferenceResolutionCacheComponentReplaced() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-nested-jars"); //$NON-NLS-1$
+		try {
+			IApiComponent component = baseline.getApiComponent(COMPONENT_A);
+			assertNotNull("missing component.a", component); //$NON-NLS-1$
+			IApiType type = component.findTypeRoot("component.a.A").getStructure(); //$NON-NLS-1$
+			String key = "component.a#component.a.A"; //$NON-NLS-1$
+			ReferenceResolutionCache cache = ReferenceResolutionCache.getCache();
+			cache.cacheResolution(baseline, component, key, type);
+			assertEquals("Wrong cached resolution", type, cache.getResolution(baseline, component, key)); //$NON-NLS-1$
+
+			IApiComponent replacement = ApiModelFactory.newApiComponent(baseline, component.getLocation());
+			((ApiBaseline) baseline).addApiComponents(new IApiComponent[] { replacement });
+			assertEquals("Component not replaced", replacement, baseline.getApiComponent(COMPONENT_A)); //$NON-NLS-1$
+			assertNull("Resolution of the replaced component should be discarded", //$NON-NLS-1$
+					cache.getResolution(baseline, replacement, key));
+
+			IApiType replacementType = replacement.findTypeRoot("component.a.A").getStructure(); //$NON-NLS-1$
+			cache.cacheResolution(baseline, replacement, key, replacementType);
+			assertEquals("Wrong cached resolution", replacementType, cache.getResolution(baseline, replacement, key)); //$NON-NLS-1$
+			assertNull("Resolution for the old component should not be returned", //$NON-NLS-1$
+					cache.getResolution(baseline, component, key));
+		} finally {
+			baseline.dispose();
+		}
+	}
+
 	/**
 	 * Ensures nested jar file names with identical file names are handled
 	 * correctly
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -160,4 +161,19 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that hits and misses are counted
+	 */
+	@Test
+	public void testHitMissCounters() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		long hits = cache.getHitCount();
+		long misses = cache.getMissCount();
+		cacheType("testtype5"); //$NON-NLS-1$
+		assertNotNull("The type should have been retrieved", cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype5", IApiElement.TYPE)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull("The type should not have been retrieved", cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "testtype6", IApiElement.TYPE)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("Wrong number of hits", hits + 1, cache.getHitCount()); //$NON-NLS-1$
+		assertEquals("Wrong number of misses", misses + 1, cache.getMissCount()); //$NON-NLS-1$
+	}
 }
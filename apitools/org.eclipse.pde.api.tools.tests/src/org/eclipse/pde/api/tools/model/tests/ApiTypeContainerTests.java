@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,6 +32,7 @@ import java.util.Set;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.ArchiveClassIndex;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
@@ -160,6 +165,28 @@ public class ApiTypeContainerTests {
 		doTestVisitClassFiles(buildArchiveContainer());
 	}
 
+	/**
+	 * Tests that a second container on the same archive, initialized from the
+	 * persisted class index, exposes the same packages, types and contents.
+	 */
+	@Test
+	public void testArchiveIndexedContainer() throws CoreException {
+		IApiTypeContainer container = buildArchiveContainer();
+		doTestPackageNames(container);
+		Path archive = Path.of(TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar") //$NON-NLS-1$ //$NON-NLS-2$
+				.toOSString());
+		assertTrue("Missing class index", Files.isRegularFile(ArchiveClassIndex.getIndexFile(archive))); //$NON-NLS-1$
+		int loads = ArchiveClassIndex.getLoadCount();
+		IApiTypeContainer indexed = buildArchiveContainer();
+		doTestPackageNames(indexed);
+		assertEquals("Class index not used", loads + 1, ArchiveClassIndex.getLoadCount()); //$NON-NLS-1$
+		doTestVisitClassFiles(indexed);
+		IApiTypeRoot root = indexed.findTypeRoot("a.b.c.ClassC"); //$NON-NLS-1$
+		assertNotNull("Missing type root", root); //$NON-NLS-1$
+		assertArrayEquals("Wrong contents", container.findTypeRoot("a.b.c.ClassC").getContents(), //$NON-NLS-1$ //$NON-NLS-2$
+				root.getContents());
+	}
+
 	/**
 	 * Tests visiting class files in a directory.
 	 */
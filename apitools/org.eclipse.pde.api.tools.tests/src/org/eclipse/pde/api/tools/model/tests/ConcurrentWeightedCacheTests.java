@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache.KeyListener;
+import org.junit.Test;
+
+/**
+ * Tests the {@link KeyListener} of a {@link ConcurrentWeightedCache}
+ */
+public class ConcurrentWeightedCacheTests {
+
+	/**
+	 * Records the notifications and keeps the set of cached keys
+	 */
+	static class RecordingListener implements KeyListener<Integer> {
+		final List<String> events = new ArrayList<>();
+		final Set<Integer> keys = ConcurrentHashMap.newKeySet();
+		boolean record = true;
+
+		@Override
+		public void added(Integer key) {
+			if (!keys.add(key)) {
+				throw new IllegalStateException("added twice: " + key); //$NON-NLS-1$
+			}
+			if (record) {
+				events.add("+" + key); //$NON-NLS-1$
+			}
+		}
+
+		@Override
+		public void removed(Integer key) {
+			if (!keys.remove(key)) {
+				throw new IllegalStateException("removed twice: " + key); //$NON-NLS-1$
+			}
+			if (record) {
+				events.add("-" + key); //$NON-NLS-1$
+			}
+		}
+	}
+
+	@Test
+	public void testNotifications() {
+		RecordingListener listener = new RecordingListener();
+		// two segments, for the odd and the even keys, holding one value each
+		ConcurrentWeightedCache<Integer, String> cache = new ConcurrentWeightedCache<>(2, 2, value -> 1, listener);
+		cache.put(1, "a"); //$NON-NLS-1$
+		cache.put(2, "b"); //$NON-NLS-1$
+		cache.put(1, "c"); //$NON-NLS-1$
+		cache.put(3, "d"); //$NON-NLS-1$
+		cache.put(4, "e"); //$NON-NLS-1$
+		cache.remove(3);
+		cache.remove(3);
+		cache.removeIf(key -> key.intValue() == 4);
+		cache.flush();
+		assertEquals(List.of("+1", "+2", "+3", "-1", "+4", "-2", "-3", "-4"), listener.events); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+		assertEquals(Set.of(), listener.keys);
+	}
+
+	@Test
+	public void testConcurrentChanges() throws Exception {
+		RecordingListener listener = new RecordingListener();
+		listener.record = false;
+		ConcurrentWeightedCache<Integer, String> cache = new ConcurrentWeightedCache<>(64, 4, value -> 1, listener);
+		int keyCount = 256;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for (int i = 0; i < 20_000; i++) {
+						Integer key = Integer.valueOf(random.nextInt(keyCount));
+						if (random.nextInt(4) == 0) {
+							cache.remove(key);
+						} else {
+							cache.put(key, "value"); //$NON-NLS-1$
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		// the keys known to the listener are exactly the cached keys
+		for (int i = 0; i < keyCount; i++) {
+			Integer key = Integer.valueOf(i);
+			assertEquals(String.valueOf(key), cache.get(key) != null, listener.keys.contains(key));
+		}
+	}
+}
@@ -43,6 +43,7 @@ import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -302,6 +303,12 @@ public class ApiAnalysisApplication implements IApplication {
 			ApiBaselineManager.getManager().addApiBaseline(baseline);
 			ApiBaselineManager.getManager().setDefaultApiBaseline(baseline.getName());
 			return baseline;
+		} else if (baselinePath.isFile() && ApiBaselineSnapshot.isSnapshot(baselinePath)) {
+			String baselineName = baselineFileName.substring(0, baselineFileName.lastIndexOf('.'));
+			IApiBaseline baseline = ApiBaselineSnapshot.newApiBaseline(baselineName, baselinePath.toPath(), null);
+			ApiBaselineManager.getManager().addApiBaseline(baseline);
+			ApiBaselineManager.getManager().setDefaultApiBaseline(baseline.getName());
+			return baseline;
 		} else if (baselinePath.isDirectory()) {
 			System.err.println(
 					"Support for directories not implemented yet, use `default` or a `</path/to/baseline.target>` baseline for currently running application."); //$NON-NLS-1$
@@ -55,6 +55,7 @@ import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJobRule;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
@@ -219,6 +220,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			deleteSnapshot(getSnapshotFile(file));
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -242,6 +244,19 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		String filename = handlecache.get(baseline.getName());
 		if (filename != null) {
 			File file = new File(filename);
+			Path snapshot = getSnapshotFile(file);
+			if (file.exists() && Files.isRegularFile(snapshot)) {
+				// the binary snapshot avoids re-deriving every component from its bundle
+				try {
+					baseline.restoreFrom(ApiBaselineSnapshot.readComponents(baseline, snapshot));
+					hasinfos.add(baseline.getName());
+					return;
+				} catch (CoreException e) {
+					// fall back to the profile, the snapshot is re-written on next save
+					ApiPlugin.log(e.getStatus());
+					deleteSnapshot(snapshot);
+				}
+			}
 			if (file.exists()) {
 				try (FileInputStream inputStream = new FileInputStream(file)) {
 					baseline.restoreFrom(inputStream);
@@ -340,6 +355,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 				Path file = dir.resolve(id + BASELINE_FILE_EXTENSION);
 				writeBaselineDescription(baseline, file);
+				writeBaselineSnapshot(baseline, getSnapshotFile(file.toFile()));
 				// need to save the api baseline state in order to be able
 				// to reload it later
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
@@ -347,6 +363,44 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Writes a binary snapshot of the given {@link IApiBaseline} to the given
+	 * file. Only the components whose bundle changed since the existing
+	 * snapshot was written are read, and an up to date snapshot is left as is.
+	 * The snapshot is deleted along with the baseline.
+	 */
+	private void writeBaselineSnapshot(IApiBaseline baseline, Path file) {
+		if (baseline.getName().equals(WORKSPACE_API_BASELINE_ID)) {
+			return;
+		}
+		try {
+			ApiBaselineSnapshot.write(baseline, file);
+		} catch (CoreException e) {
+			// the snapshot is only an optimization, the profile is enough to restore
+			ApiPlugin.log(e.getStatus());
+		}
+	}
+
+	private static void deleteSnapshot(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the binary snapshot file that goes along with the given baseline
+	 * profile file
+	 */
+	private static Path getSnapshotFile(File profile) {
+		String name = profile.getName();
+		if (name.endsWith(BASELINE_FILE_EXTENSION)) {
+			name = name.substring(0, name.length() - BASELINE_FILE_EXTENSION.length());
+		}
+		return profile.toPath().resolveSibling(name + ApiBaselineSnapshot.SNAPSHOT_FILE_EXTENSION);
+	}
+
 	/**
 	 * Writes the current state of the {@link IApiBaseline} as XML to the given file
 	 */
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A thread safe LRU cache bounded by the total weight of its values rather than
+ * by the number of entries.
+ * <p>
+ * Keys are distributed over a fixed number of segments, each with its own lock
+ * and its own share of the weight limit, so that threads accessing different
+ * keys rarely contend. Within a segment the least recently used entries are
+ * evicted first.
+ * </p>
+ * <p>
+ * The cache counts hits, misses and evictions to help sizing it.
+ * </p>
+ * <p>
+ * A {@link KeyListener} can keep an index of the cached keys. It is notified
+ * while the segment of the key is locked, so its notifications for a key are
+ * in the same order as the changes of the cache for that key.
+ * </p>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public class ConcurrentWeightedCache<K, V> {
+
+	/**
+	 * One segment of the cache, an access ordered map guarded by its own lock
+	 */
+	private static final class Segment<K, V> {
+		final ReentrantLock lock = new ReentrantLock();
+		final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+		long weight;
+	}
+
+	/**
+	 * Notified of the keys added to and removed from a cache, while the segment
+	 * of the key is locked
+	 *
+	 * @param <K> the type of keys
+	 */
+	public interface KeyListener<K> {
+
+		/**
+		 * A key was added to the cache. Not called when the value of a cached
+		 * key is replaced.
+		 *
+		 * @param key the added key
+		 */
+		void added(K key);
+
+		/**
+		 * A key was removed from the cache: explicitly, to stay within the
+		 * weight limit or because the cache was flushed
+		 *
+		 * @param key the removed key
+		 */
+		void removed(K key);
+	}
+
+	/**
+	 * A cached value with the weight computed when it was added
+	 */
+	private record Entry<V>(V value, int weight) {
+	}
+
+	private final Segment<K, V>[] fSegments;
+	private final long fSegmentLimit;
+	private final ToIntFunction<? super V> fWeigher;
+	private final KeyListener<? super K> fListener;
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxWeight the maximum total weight of the values in the cache
+	 * @param concurrency the number of segments, rounded up to a power of two
+	 * @param weigher computes the weight of a value, at least <code>1</code>
+	 */
+	public ConcurrentWeightedCache(long maxWeight, int concurrency, ToIntFunction<? super V> weigher) {
+		this(maxWeight, concurrency, weigher, null);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param maxWeight the maximum total weight of the values in the cache
+	 * @param concurrency the number of segments, rounded up to a power of two
+	 * @param weigher computes the weight of a value, at least <code>1</code>
+	 * @param listener notified of the keys added and removed, or
+	 *            <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentWeightedCache(long maxWeight, int concurrency, ToIntFunction<? super V> weigher,
+			KeyListener<? super K> listener) {
+		int count = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+		fSegments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			fSegments[i] = new Segment<>();
+		}
+		fSegmentLimit = Math.max(1, maxWeight / count);
+		fWeigher = weigher;
+		fListener = listener;
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return fSegments[h & (fSegments.length - 1)];
+	}
+
+	/**
+	 * Returns the value cached for the given key or <code>null</code>
+	 *
+	 * @param key the key to look up
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		Entry<V> entry;
+		segment.lock.lock();
+		try {
+			entry = segment.map.get(key);
+		} finally {
+			segment.lock.unlock();
+		}
+		if (entry == null) {
+			fMisses.increment();
+			return null;
+		}
+		fHits.increment();
+		return entry.value();
+	}
+
+	/**
+	 * Caches the given value, evicting least recently used entries of the same
+	 * segment as required to stay within the weight limit.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		int weight = Math.max(1, fWeigher.applyAsInt(value));
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			Entry<V> old = segment.map.put(key, new Entry<>(value, weight));
+			segment.weight += weight;
+			if (old != null) {
+				segment.weight -= old.weight();
+			} else if (fListener != null) {
+				fListener.added(key);
+			}
+			Iterator<Map.Entry<K, Entry<V>>> iterator = segment.map.entrySet().iterator();
+			while (segment.weight > fSegmentLimit && iterator.hasNext()) {
+				Map.Entry<K, Entry<V>> eldest = iterator.next();
+				if (eldest.getKey().equals(key)) {
+					// never evict the entry just added
+					continue;
+				}
+				segment.weight -= eldest.getValue().weight();
+				iterator.remove();
+				fEvictions.increment();
+				if (fListener != null) {
+					fListener.removed(eldest.getKey());
+				}
+			}
+			return old == null ? null : old.value();
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes the value cached for the given key
+	 *
+	 * @param key the key
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		segment.lock.lock();
+		try {
+			Entry<V> old = segment.map.remove(key);
+			if (old == null) {
+				return null;
+			}
+			segment.weight -= old.weight();
+			if (fListener != null) {
+				fListener.removed(key);
+			}
+			return old.value();
+		} finally {
+			segment.lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all entries whose key matches the given predicate
+	 *
+	 * @param filter the predicate to test keys with
+	 * @return <code>true</code> if at least one entry was removed
+	 */
+	public boolean removeIf(Predicate<? super K> filter) {
+		boolean removed = false;
+		for (Segment<K, V> segment : fSegments) {
+			segment.lock.lock();
+			try {
+				Iterator<Map.Entry<K, Entry<V>>> iterator = segment.map.entrySet().iterator();
+				while (iterator.hasNext()) {
+					Map.Entry<K, Entry<V>> entry = iterator.next();
+					if (filter.test(entry.getKey())) {
+						segment.weight -= entry.getValue().weight();
+						iterator.remove();
+						removed = true;
+						if (fListener != null) {
+							fListener.removed(entry.getKey());
+						}
+					}
+				}
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all entries from the cache, the statistics are kept
+	 */
+	public void flush() {
+		for (Segment<K, V> segment : fSegments) {
+			segment.lock.lock();
+			try {
+				if (fListener != null) {
+					for (K key : segment.map.keySet()) {
+						fListener.removed(key);
+					}
+				}
+				segment.map.clear();
+				segment.weight = 0;
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Returns if the cache has any entries in it or not
+	 *
+	 * @return true if the cache has no entries, false otherwise
+	 */
+	public boolean isEmpty() {
+		for (Segment<K, V> segment : fSegments) {
+			segment.lock.lock();
+			try {
+				if (!segment.map.isEmpty()) {
+					return false;
+				}
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of entries in the cache
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : fSegments) {
+			segment.lock.lock();
+			try {
+				size += segment.map.size();
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return the total weight of the entries in the cache
+	 */
+	public long weight() {
+		long weight = 0;
+		for (Segment<K, V> segment : fSegments) {
+			segment.lock.lock();
+			try {
+				weight += segment.weight;
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * @return the number of lookups that found a cached value
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find a cached value
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return the number of entries evicted to stay within the weight limit
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[size=" + size() + ", weight=" + weight() + ", hits=" + getHitCount() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
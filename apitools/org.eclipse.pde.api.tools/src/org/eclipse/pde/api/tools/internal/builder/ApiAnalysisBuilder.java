@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -885,6 +885,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_on_0, 4);
 		BuildState.setLastBuiltState(this.currentproject, null);
+		ApiDependencyGraph.delete(this.currentproject);
 		this.buildstate = new BuildState();
 		localMonitor
 				.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_initializing_analyzer, currentproject.getName()));
@@ -911,13 +912,34 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				}
 			}
 			if (apiComponent != null) {
+				ApiDependencyGraph graph = null;
 				if (getAnalyzer() instanceof BaseApiAnalyzer) {
 					((BaseApiAnalyzer) getAnalyzer()).checkBaselineMismatch(baseline, wbaseline);
+					State state = (State) JavaModelManager.getJavaModelManager().getLastBuiltState(this.currentproject, null);
+					if (state != null) {
+						graph = new ApiDependencyGraph(state.typeLocators::get);
+						((BaseApiAnalyzer) getAnalyzer()).setDependencyGraph(graph);
+					}
+				}
+				try {
+					getAnalyzer().analyzeComponent(this.buildstate, null, null, baseline, apiComponent,
+							new BuildContext(), localMonitor.split(1));
+				} finally {
+					if (graph != null) {
+						((BaseApiAnalyzer) getAnalyzer()).setDependencyGraph(null);
+					}
 				}
-				getAnalyzer().analyzeComponent(this.buildstate, null, null, baseline, apiComponent, new BuildContext(),
-						localMonitor.split(1));
 				localMonitor.split(1);
 				createMarkers();
+				if (graph != null) {
+					try {
+						graph.complete(apiComponent);
+						ApiDependencyGraph.save(this.currentproject, graph);
+					} catch (CoreException e) {
+						// the next incremental build re-analyzes all dependents
+						ApiPlugin.log(e);
+					}
+				}
 				localMonitor.split(1);
 			}
 		}
@@ -1216,6 +1238,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			localmonitor.split(1);
 		} finally {
 			BuildState.setLastBuiltState(this.currentproject, null);
+			ApiDependencyGraph.delete(this.currentproject);
 		}
 	}
 
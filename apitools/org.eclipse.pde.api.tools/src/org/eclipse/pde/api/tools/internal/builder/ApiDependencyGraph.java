@@ -0,0 +1,386 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * Source level dependency graph of the API surface of a project.
+ * <p>
+ * For every source file of the project the graph records the top level types
+ * referenced by the API signatures of the types it declares: super types, field
+ * types, method parameter, return and exception types, and their type
+ * arguments. The source files are identified by their JDT type locator, i.e.
+ * their project relative path, so that secondary top level types are part of
+ * the node of the file declaring them. References of member types are part of
+ * those of their top level type, see
+ * {@link ReferenceExtractor#visitInnerClass(String, String, String, int)}.
+ * Private members as well as local and anonymous types are not considered.
+ * The incremental builder uses the graph to skip dependents whose API
+ * signatures do not mention any of the changed types of the same project,
+ * since only those can gain or lose API leak problems.
+ * </p>
+ * <p>
+ * The references are preferably recorded by the {@link ReferenceAnalyzer}
+ * while the API use scan extracts them anyway, see
+ * {@link BaseApiAnalyzer#setDependencyGraph(ApiDependencyGraph)}; only the
+ * types it did not visit are read again by {@link #complete(IApiComponent)}.
+ * </p>
+ * <p>
+ * The graph is persisted next to the {@link BuildState} of the project and is
+ * dropped whenever the project is cleaned or fully built, or when an
+ * incremental build does not complete.
+ * </p>
+ */
+final class ApiDependencyGraph {
+
+	/**
+	 * Reference kinds that make up the API signature of a type
+	 */
+	static final int API_REFERENCES = IReference.REF_EXTENDS | IReference.REF_IMPLEMENTS | IReference.REF_FIELDDECL
+			| IReference.REF_RETURNTYPE | IReference.REF_PARAMETER | IReference.REF_THROWS
+			| IReference.REF_PARAMETERIZED_TYPEDECL | IReference.REF_PARAMETERIZED_FIELDDECL
+			| IReference.REF_PARAMETERIZED_METHODDECL;
+
+	/**
+	 * Magic number identifying a graph file
+	 */
+	private static final int MAGIC = 0x41504447; // 'APDG'
+
+	/**
+	 * Version of the graph file format, bump when the layout changes
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Map of source file type locators to the slash qualified top level type
+	 * names referenced by the API signatures of their types
+	 */
+	private final Map<String, Set<String>> fDependencies = new HashMap<>();
+
+	/**
+	 * Slash qualified names of the top level types whose references have been
+	 * recorded since this graph was created or loaded
+	 */
+	private final Set<String> fRecorded = new HashSet<>();
+
+	/**
+	 * Maps slash qualified top level type names to the type locator of their
+	 * source file, or to <code>null</code> if they do not stem from a source
+	 * file of the project
+	 */
+	private final Function<String, String> fLocator;
+
+	/**
+	 * Constructor
+	 *
+	 * @param locator maps slash qualified top level type names to the type
+	 *            locator of their source file or <code>null</code>, typically
+	 *            the type locators of the JDT build state
+	 */
+	ApiDependencyGraph(Function<String, String> locator) {
+		fLocator = locator;
+	}
+
+	/**
+	 * Records the API signature references of the given type, taken from the
+	 * given references. Member, local and anonymous types are ignored, their
+	 * references are part of those of their top level type.
+	 *
+	 * @param type the type the references have been extracted from
+	 * @param references references extracted from the type, may contain
+	 *            other kinds than {@link #API_REFERENCES}
+	 * @throws CoreException if the referencing members cannot be read
+	 */
+	void record(IApiType type, List<IReference> references) throws CoreException {
+		if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+			return;
+		}
+		String self = getTopLevelTypeName(type.getName());
+		String locator = fLocator.apply(self);
+		if (locator == null) {
+			// not compiled from a source file of the project
+			return;
+		}
+		Set<String> dependencies = fDependencies.computeIfAbsent(locator, l -> new HashSet<>());
+		for (IReference reference : references) {
+			if ((reference.getReferenceKind() & API_REFERENCES) != 0 && isApiVisible(reference.getMember())) {
+				String referenced = getTopLevelTypeName(reference.getReferencedTypeName());
+				if (!referenced.equals(self)) {
+					dependencies.add(referenced);
+				}
+			}
+		}
+		fRecorded.add(self);
+	}
+
+	/**
+	 * Records the references of all the top level types of the given component
+	 * that have not been recorded yet
+	 *
+	 * @param component the component of the project
+	 * @throws CoreException if the types of the component cannot be read
+	 */
+	void complete(IApiComponent component) throws CoreException {
+		long start = System.currentTimeMillis();
+		int recorded = fRecorded.size();
+		CoreException[] failure = new CoreException[1];
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				if (failure[0] != null) {
+					return;
+				}
+				try {
+					IApiType type = typeroot.getStructure();
+					if (type != null && !fRecorded.contains(getTopLevelTypeName(type.getName()))) {
+						recordType(type);
+					}
+				} catch (CoreException e) {
+					failure[0] = e;
+				}
+			}
+		});
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+		if (ApiPlugin.DEBUG_BUILDER_DEPENDENTS) {
+			System.out.println("ApiAnalysisBuilder: completed API dependency graph of " + size() + " source files, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (fRecorded.size() - recorded) + " types not visited by the API use scan, in " //$NON-NLS-1$
+					+ (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Records the references of the given top level types of the given
+	 * component that have not been recorded yet
+	 *
+	 * @param component the component of the project
+	 * @param typeNames slash qualified names of top level types
+	 * @throws CoreException if a type cannot be read
+	 */
+	void complete(IApiComponent component, Collection<String> typeNames) throws CoreException {
+		for (String typeName : typeNames) {
+			if (!fRecorded.contains(typeName)) {
+				IApiTypeRoot root = component.findTypeRoot(typeName.replace('/', '.'));
+				IApiType type = root == null ? null : root.getStructure();
+				if (type != null) {
+					recordType(type);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the given source file from the graph, its references have to be
+	 * recorded again
+	 *
+	 * @param locator type locator of the source file
+	 */
+	void remove(String locator) {
+		fDependencies.remove(locator);
+	}
+
+	/**
+	 * Returns the top level types referenced by the API signatures of the types
+	 * of the given source file or <code>null</code> if the source file is not
+	 * in the graph.
+	 *
+	 * @param locator type locator of the source file
+	 * @return the slash qualified names of the referenced top level types or
+	 *         <code>null</code>
+	 */
+	Set<String> getDependencies(String locator) {
+		return fDependencies.get(locator);
+	}
+
+	/**
+	 * Returns the type locator of the source file of the given top level type
+	 * or <code>null</code> if it does not stem from a source file of the
+	 * project
+	 *
+	 * @param typeName slash qualified top level type name
+	 * @return the type locator or <code>null</code>
+	 */
+	String getLocator(String typeName) {
+		return fLocator.apply(typeName);
+	}
+
+	/**
+	 * @return the number of source files in the graph
+	 */
+	int size() {
+		return fDependencies.size();
+	}
+
+	/**
+	 * Extracts and records the references of the given top level type, member
+	 * types being part of the extracted references
+	 */
+	private void recordType(IApiType type) throws CoreException {
+		if (!type.isMemberType() && !type.isLocal() && !type.isAnonymous()) {
+			record(type, type.extractReferences(API_REFERENCES, null));
+		}
+	}
+
+	/**
+	 * Returns if the given member can be part of the API surface, i.e. neither
+	 * it nor one of its enclosing types is private, local or anonymous
+	 */
+	private static boolean isApiVisible(IApiMember member) throws CoreException {
+		IApiMember current = member;
+		while (current != null) {
+			if (Flags.isPrivate(current.getModifiers())) {
+				return false;
+			}
+			if (current instanceof IApiType type && (type.isLocal() || type.isAnonymous())) {
+				return false;
+			}
+			current = current.getEnclosingType();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the slash qualified name of the top level type of the given dot
+	 * or slash qualified, possibly <code>$</code> qualified type name
+	 *
+	 * @param typeName the type name
+	 * @return the slash qualified top level type name
+	 */
+	static String getTopLevelTypeName(String typeName) {
+		String name = typeName.replace('.', '/');
+		int idx = name.indexOf('$', name.lastIndexOf('/') + 1);
+		return idx > 0 ? name.substring(0, idx) : name;
+	}
+
+	/**
+	 * Returns the persisted graph of the given project or <code>null</code> if
+	 * there is none or it cannot be read
+	 *
+	 * @param project the project
+	 * @param locator see {@link #ApiDependencyGraph(Function)}
+	 * @return the graph or <code>null</code>
+	 */
+	static ApiDependencyGraph load(IProject project, Function<String, String> locator) {
+		File file = getSerializationFile(project);
+		if (file == null || !file.exists()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			ApiDependencyGraph graph = new ApiDependencyGraph(locator);
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String source = in.readUTF();
+				int size = in.readInt();
+				Set<String> dependencies = new HashSet<>(size);
+				for (int j = 0; j < size; j++) {
+					dependencies.add(in.readUTF());
+				}
+				graph.fDependencies.put(source, dependencies);
+			}
+			return graph;
+		} catch (IOException e) {
+			// a corrupt graph is simply re-computed
+			return null;
+		}
+	}
+
+	/**
+	 * Persists the given graph for the given project. Failures are logged and
+	 * otherwise ignored since the graph is only an optimization.
+	 *
+	 * @param project the project
+	 * @param graph the graph to persist
+	 */
+	static void save(IProject project, ApiDependencyGraph graph) {
+		File file = getSerializationFile(project);
+		if (file == null) {
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(graph.fDependencies.size());
+			for (Entry<String, Set<String>> entry : graph.fDependencies.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().size());
+				for (String dependency : entry.getValue()) {
+					out.writeUTF(dependency);
+				}
+			}
+		} catch (IOException e) {
+			delete(project);
+			ApiPlugin.log("Failed to save API dependency graph of project: " + project.getName(), e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Deletes the persisted graph of the given project, if any
+	 *
+	 * @param project the project
+	 */
+	static void delete(IProject project) {
+		try {
+			File file = getSerializationFile(project);
+			if (file != null && file.exists()) {
+				file.delete();
+			}
+		} catch (SecurityException se) {
+			// could not delete file: cannot do much more
+		}
+	}
+
+	/**
+	 * Returns the {@link File} the graph of the given project is persisted in
+	 * or <code>null</code> if the project does not exist
+	 */
+	private static File getSerializationFile(IProject project) {
+		if (!project.exists()) {
+			return null;
+		}
+		IPath workingLocation = project.getWorkingLocation(ApiPlugin.PLUGIN_ID);
+		return workingLocation.append("dependencies.dat").toFile(); //$NON-NLS-1$
+	}
+}
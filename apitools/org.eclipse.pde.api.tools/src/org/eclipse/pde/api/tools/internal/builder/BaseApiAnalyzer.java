@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -175,12 +175,29 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private boolean fContinueOnResolutionError = false;
 
+	/**
+	 * Dependency graph the API use scan records the API signature references
+	 * of the scanned types in, or <code>null</code>
+	 */
+	private ApiDependencyGraph fDependencyGraph = null;
+
 	/**
 	 * Constructs an API analyzer
 	 */
 	public BaseApiAnalyzer() {
 	}
 
+	/**
+	 * Sets the dependency graph the API use scan of the next analyzed
+	 * components records the API signature references of the scanned types in,
+	 * sparing the builder a separate pass over them.
+	 *
+	 * @param graph the graph or <code>null</code> to stop recording
+	 */
+	void setDependencyGraph(ApiDependencyGraph graph) {
+		fDependencyGraph = graph;
+	}
+
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
@@ -1243,6 +1260,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, MessageFormat.format(BuilderMessages.checking_api_usage, component.getSymbolicName()), 2);
 		ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+		analyzer.fDependencyGraph = fDependencyGraph;
 		try {
 			long start = System.currentTimeMillis();
 			IApiProblem[] illegal = analyzer.analyze(component, scope, localMonitor.split(2));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -186,6 +186,22 @@ public class IncrementalApiBuilder {
 	BuildContext context = null;
 	IApiBaseline workspaceBaseline = null;
 
+	/**
+	 * API dependency graph of the project from its last build or
+	 * <code>null</code> if unknown
+	 */
+	ApiDependencyGraph dependencyGraph = null;
+
+	/**
+	 * Names of the types changed in the project being built
+	 */
+	Set<String> localTypes = new HashSet<>();
+
+	/**
+	 * Type locators of the source files changed in the project being built
+	 */
+	Set<String> localChanges = new HashSet<>();
+
 	/**
 	 * Constructor
 	 */
@@ -209,6 +225,8 @@ public class IncrementalApiBuilder {
 		this.workspaceBaseline = wbaseline;
 		SubMonitor localmonitor = SubMonitor.convert(monitor, NLS.bind(BuilderMessages.IncrementalBuilder_builder_for_project, project.getName()), 1);
 		this.context = new BuildContext();
+		this.dependencyGraph = ApiDependencyGraph.load(project, state.typeLocators::get);
+		boolean graphUpdated = false;
 		try {
 			String[] projectNames = buildstate.getReexportedComponents();
 			HashSet<IProject> depprojects = null;
@@ -235,7 +253,7 @@ public class IncrementalApiBuilder {
 				delta.accept(visitor);
 			}
 			buildContext(project, state, visitor.changes, depprojects);
-			build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
+			graphUpdated = build(project, baseline, wbaseline, state, buildstate, localmonitor.split(1));
 		} catch (OperationCanceledException oce) {
 			// do nothing, but don't forward it
 			// https://bugs.eclipse.org/bugs/show_bug.cgi?id=304315
@@ -243,6 +261,10 @@ public class IncrementalApiBuilder {
 				System.out.println("ApiAnalysisBuilder: Trapped OperationCanceledException"); //$NON-NLS-1$
 			}
 		} finally {
+			if (!graphUpdated) {
+				// the graph no longer matches the state of the project
+				ApiDependencyGraph.delete(project);
+			}
 			this.context.dispose();
 		}
 	}
@@ -255,8 +277,10 @@ public class IncrementalApiBuilder {
 	 * @param wbaseline the current workspace baseline
 	 * @param state the current JDT build state
 	 * @param buildstate the current API tools build state
+	 * @return <code>true</code> if the API dependency graph of the project has
+	 *         been updated and saved, <code>false</code> otherwise
 	 */
-	void build(final IProject project, final IApiBaseline baseline, final IApiBaseline wbaseline, final State state, BuildState buildstate, IProgressMonitor monitor) {
+	boolean build(final IProject project, final IApiBaseline baseline, final IApiBaseline wbaseline, final State state, BuildState buildstate, IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_on_0, 3);
 		localmonitor.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_finding_affected_source_files, project.getName()));
 		if (this.context.hasTypes()) {
@@ -278,13 +302,69 @@ public class IncrementalApiBuilder {
 					}
 				}
 				if (comp == null) {
-					return;
+					return false;
 				}
 				extClean(project, buildstate, localmonitor.split(1));
-				this.builder.getAnalyzer().analyzeComponent(buildstate, null, null, baseline, comp, this.context, localmonitor.split(1));
+				boolean computeGraph = this.dependencyGraph == null;
+				if (computeGraph) {
+					this.dependencyGraph = new ApiDependencyGraph(state.typeLocators::get);
+				} else {
+					// changed source files are recorded again
+					for (String locator : this.localChanges) {
+						this.dependencyGraph.remove(locator);
+					}
+				}
+				BaseApiAnalyzer analyzer = this.builder.getAnalyzer() instanceof BaseApiAnalyzer a ? a : null;
+				if (analyzer != null) {
+					analyzer.setDependencyGraph(this.dependencyGraph);
+				}
+				try {
+					this.builder.getAnalyzer().analyzeComponent(buildstate, null, null, baseline, comp, this.context, localmonitor.split(1));
+				} finally {
+					if (analyzer != null) {
+						analyzer.setDependencyGraph(null);
+					}
+				}
 				localmonitor.split(1);
 				this.builder.createMarkers();
+				return updateDependencyGraph(project, comp, state, computeGraph);
 			}
+			return false;
+		}
+		return this.dependencyGraph != null;
+	}
+
+	/**
+	 * Completes the API dependency graph of the project with the types the API
+	 * use scan of this build did not record and saves it. Only the types of
+	 * the changed source files are missing, unless the graph was unknown
+	 * before this build.
+	 *
+	 * @param project the project being built
+	 * @param component the API component of the project
+	 * @param state the current JDT build state
+	 * @param all if all types of the component have to be recorded
+	 * @return <code>true</code> if the graph has been saved, <code>false</code>
+	 *         otherwise
+	 */
+	private boolean updateDependencyGraph(IProject project, IApiComponent component, State state, boolean all) {
+		try {
+			if (all) {
+				this.dependencyGraph.complete(component);
+			} else {
+				Set<String> types = new HashSet<>();
+				for (Entry<String, String> entry : state.typeLocators.entrySet()) {
+					if (this.localChanges.contains(entry.getValue())) {
+						types.add(ApiDependencyGraph.getTopLevelTypeName(entry.getKey()));
+					}
+				}
+				this.dependencyGraph.complete(component, types);
+			}
+			ApiDependencyGraph.save(project, this.dependencyGraph);
+			return true;
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+			return false;
 		}
 	}
 
@@ -380,6 +460,14 @@ public class IncrementalApiBuilder {
 		StringSet description = null;
 		for (Change change : changes) {
 			boolean contained = change.isContained(project, depprojects);
+			if (change.project.equals(project)) {
+				this.localTypes.add(change.typeName);
+				String locator = change.fileKind == JAVA__FILE ? change.resource.getProjectRelativePath().toString()
+						: state.typeLocators.get(ApiDependencyGraph.getTopLevelTypeName(change.typeName));
+				if (locator != null) {
+					this.localChanges.add(locator);
+				}
+			}
 			if ((change.changeKind & STRUCTURAL) > 0) {
 				// don't analyze dependents of removed types
 				if (change.deltaKind != IResourceDelta.REMOVED) {
@@ -453,6 +541,13 @@ public class IncrementalApiBuilder {
 	 * Adds the dependent files from the current build context based on the
 	 * current JDT build state to either the structural or description
 	 * dependents.
+	 * <p>
+	 * If all the given types are changed in the project being built, only
+	 * dependents whose API signatures reference one of them according to the
+	 * API dependency graph are added: within the same component the API use
+	 * scan can only report API leaks, which depend on the API signatures of a
+	 * type alone.
+	 * </p>
 	 *
 	 * @param project the current project being built
 	 * @param state the current JDT build state
@@ -479,6 +574,12 @@ public class IncrementalApiBuilder {
 		if (internedSimpleNames.length < typenames.elementSize) {
 			internedSimpleNames = null;
 		}
+		boolean prune = this.dependencyGraph != null;
+		for (int i = 0; prune && i < types.length; i++) {
+			prune = types[i] == null || this.localTypes.contains(types[i]);
+		}
+		int dependents = 0;
+		int pruned = 0;
 		Set<Entry<String, ReferenceCollection>> entrySet = state.getReferences().entrySet();
 		for (Entry<String, ReferenceCollection> entry : entrySet) {
 			String typeLocator = entry.getKey();
@@ -488,12 +589,53 @@ public class IncrementalApiBuilder {
 				if (file == null) {
 					continue;
 				}
+				dependents++;
+				if (prune && !isApiDependent(file)) {
+					pruned++;
+					continue;
+				}
 				if (ApiPlugin.DEBUG_BUILDER) {
 					System.out.println("ApiAnalysisBuilder:   adding affected source file " + file.getName()); //$NON-NLS-1$
 				}
 				addDependentTypeToContext(file, kind);
 			}
 		}
+		if (ApiPlugin.DEBUG_BUILDER_DEPENDENTS) {
+			System.out.println("ApiAnalysisBuilder: re-analyzing " + (dependents - pruned) + " of " + dependents //$NON-NLS-1$ //$NON-NLS-2$
+					+ (kind == DESCRIPTION ? " description" : kind == STRUCTURAL ? " structural" : "") + " dependents" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					+ (prune ? "" : " (changes outside of " + project.getName() + " or no dependency graph)")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * Returns if the API signatures of the types in the given source file
+	 * reference one of the types declared by the source files changed in the
+	 * project being built, or if this is unknown.
+	 *
+	 * @param file the dependent source file
+	 * @return <code>true</code> if the file has to be re-analyzed
+	 */
+	private boolean isApiDependent(IFile file) {
+		String locator = file.getProjectRelativePath().toString();
+		Set<String> dependencies = this.dependencyGraph.getDependencies(locator);
+		if (dependencies == null) {
+			if (ApiPlugin.DEBUG_BUILDER_DEPENDENTS) {
+				System.out.println("ApiAnalysisBuilder:   re-analyzing " + locator + ": not in dependency graph"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return true;
+		}
+		for (String dependency : dependencies) {
+			if (this.localChanges.contains(this.dependencyGraph.getLocator(dependency))) {
+				if (ApiPlugin.DEBUG_BUILDER_DEPENDENTS) {
+					System.out.println("ApiAnalysisBuilder:   re-analyzing " + locator + ": API signature references " + dependency); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return true;
+			}
+		}
+		if (ApiPlugin.DEBUG_BUILDER_DEPENDENTS) {
+			System.out.println("ApiAnalysisBuilder:   skipping " + locator + ": API signature references no changed type"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return false;
 	}
 
 	/**
@@ -672,6 +672,16 @@ public class Reference implements IReference {
 		this.fStatus = value;
 	}
 
+	/**
+	 * Returns if this reference is to be resolved
+	 *
+	 * @return <code>false</code> if resolution was turned off for this
+	 *         reference
+	 */
+	boolean getResolveStatus() {
+		return this.fStatus;
+	}
+
 	/**
 	 * Returns the string representation for the given reference kind or
 	 * <code>UKNOWN_KIND</code> if the kind cannot be determined.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,7 +94,13 @@ public class ReferenceAnalyzer {
 					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
 						return;
 					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
+					List<IReference> references;
+					if (fDependencyGraph != null) {
+						references = type.extractReferences(fAllReferenceKinds | ApiDependencyGraph.API_REFERENCES, null);
+						fDependencyGraph.record(type, references);
+					} else {
+						references = type.extractReferences(fAllReferenceKinds, null);
+					}
 					// keep potential matches
 					for (IReference ref : references) {
 						if (fMonitor.isCanceled()) {
@@ -141,6 +147,12 @@ public class ReferenceAnalyzer {
 	 */
 	List<IReference> fReferences = new LinkedList<>();
 
+	/**
+	 * Dependency graph to record the API signature references of the visited
+	 * types in or <code>null</code>
+	 */
+	ApiDependencyGraph fDependencyGraph = null;
+
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
 	 * are interested in. Provides a fast way to hand references off to
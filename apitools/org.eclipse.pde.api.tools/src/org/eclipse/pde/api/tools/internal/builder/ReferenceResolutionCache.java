@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+
+/**
+ * Caches the resolution of references across builds.
+ * <p>
+ * Resolutions are keyed by the name of the baseline the references are
+ * resolved in and the signature key of the references, see
+ * {@link ReferenceResolver}. Only resolutions to members of binary components
+ * are cached, since the members of workspace projects change between builds. A
+ * cached resolution is discarded as soon as its baseline is not the one the
+ * reference is resolved in anymore, the referencing component is not the one
+ * it was resolved for (its imports determine the resolution), or the
+ * providing component was disposed or replaced in the baseline.
+ * </p>
+ * <p>
+ * Resolved members are only softly reachable from the cache, and baselines
+ * and components only weakly, so the cache never keeps a model alive.
+ * </p>
+ * <p>
+ * The maximum number of cached resolutions can be set with the
+ * <code>org.eclipse.pde.api.tools.resolutionCacheSize</code> system property.
+ * </p>
+ */
+public final class ReferenceResolutionCache {
+
+	/**
+	 * Key of a cached resolution: the baseline name and the signature key of
+	 * the reference
+	 */
+	record ResolutionKey(String baseline, String signature) {
+	}
+
+	/**
+	 * A cached resolution with the baseline it was resolved in, the
+	 * referencing component it was resolved for and the component providing
+	 * the member
+	 */
+	record Resolution(WeakReference<IApiBaseline> baseline, WeakReference<IApiComponent> referencing,
+			WeakReference<IApiComponent> component, SoftReference<IApiMember> member) {
+	}
+
+	/**
+	 * Default maximum number of cached resolutions
+	 */
+	static final long DEFAULT_CACHE_SIZE = 50_000;
+
+	static ReferenceResolutionCache fInstance = null;
+
+	final ConcurrentWeightedCache<ResolutionKey, Resolution> fCache;
+
+	/**
+	 * Constructor - no instantiation
+	 */
+	private ReferenceResolutionCache() {
+		long size = Long.getLong("org.eclipse.pde.api.tools.resolutionCacheSize", DEFAULT_CACHE_SIZE).longValue(); //$NON-NLS-1$
+		fCache = new ConcurrentWeightedCache<>(size, 16, resolution -> 1);
+	}
+
+	/**
+	 * Returns the singleton instance of this cache
+	 *
+	 * @return the cache
+	 */
+	public static synchronized ReferenceResolutionCache getCache() {
+		if (fInstance == null) {
+			fInstance = new ReferenceResolutionCache();
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Returns the cached resolution of references with the given signature key
+	 * from the given component in the given baseline or <code>null</code> if
+	 * there is none or it is stale.
+	 *
+	 * @param baseline the baseline the references are resolved in
+	 * @param referencing the component making the references
+	 * @param signature the signature key of the references
+	 * @return the resolved member or <code>null</code>
+	 */
+	public IApiMember getResolution(IApiBaseline baseline, IApiComponent referencing, String signature) {
+		ResolutionKey key = new ResolutionKey(baseline.getName(), signature);
+		Resolution resolution = fCache.get(key);
+		if (resolution == null) {
+			return null;
+		}
+		IApiMember member = resolution.member().get();
+		IApiComponent component = resolution.component().get();
+		if (member == null || component == null || resolution.baseline().get() != baseline || baseline.isDisposed()
+				|| resolution.referencing().get() != referencing || !isCurrent(referencing)
+				|| !isCurrent(component)) {
+			fCache.remove(key);
+			return null;
+		}
+		return member;
+	}
+
+	/**
+	 * Caches the given resolution of references with the given signature key
+	 * from the given component in the given baseline, if the resolved member
+	 * comes from a binary component.
+	 *
+	 * @param baseline the baseline the references were resolved in
+	 * @param referencing the component making the references
+	 * @param signature the signature key of the references
+	 * @param member the member the references resolved to
+	 * @throws CoreException if the component of the member cannot be accessed
+	 */
+	public void cacheResolution(IApiBaseline baseline, IApiComponent referencing, String signature,
+			IApiMember member) throws CoreException {
+		IApiComponent component = member.getApiComponent();
+		if (component == null || component instanceof ProjectComponent) {
+			return;
+		}
+		if (member instanceof IApiMethod method && method.isDefaultMethod()) {
+			// resolving these also rewrites the referenced type name
+			return;
+		}
+		fCache.put(new ResolutionKey(baseline.getName(), signature), new Resolution(new WeakReference<>(baseline),
+				new WeakReference<>(referencing), new WeakReference<>(component), new SoftReference<>(member)));
+	}
+
+	/**
+	 * Returns if the given component is still the one representing its bundle
+	 * in its baseline
+	 */
+	private static boolean isCurrent(IApiComponent component) {
+		if (component.isDisposed()) {
+			return false;
+		}
+		try {
+			IApiBaseline baseline = component.getBaseline();
+			if (baseline == null) {
+				return false;
+			}
+			if (baseline.getApiComponent(component.getSymbolicName()) == component) {
+				return true;
+			}
+			// other versions of the bundle are only known to this set
+			for (IApiComponent current : baseline.getAllApiComponents(component.getSymbolicName())) {
+				if (current == component) {
+					return true;
+				}
+			}
+			return component.isSystemComponent();
+		} catch (CoreException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Removes all resolutions cached for the baseline with the given name
+	 *
+	 * @param baseline the name of the baseline
+	 */
+	public void removeBaseline(String baseline) {
+		fCache.removeIf(key -> key.baseline().equals(baseline));
+	}
+
+	/**
+	 * Removes all resolutions from the cache
+	 */
+	public void flushCaches() {
+		fCache.flush();
+	}
+
+	/**
+	 * @return the number of resolutions found in the cache
+	 */
+	public long getHitCount() {
+		return fCache.getHitCount();
+	}
+
+	/**
+	 * @return the number of resolutions not found in the cache
+	 */
+	public long getMissCount() {
+		return fCache.getMissCount();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,13 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
 
 /**
@@ -72,10 +75,10 @@ public final class ReferenceResolver {
 		}
 		// resolve references
 		start = System.currentTimeMillis();
-		resolveReferenceSets(sigtoref);
+		int cached = resolveReferenceSets(sigtoref);
 		end = System.currentTimeMillis();
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
-			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms, " + cached + " from cache"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
 		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
@@ -89,23 +92,44 @@ public final class ReferenceResolver {
 	}
 
 	/**
-	 * Resolves the collect sets of references.
+	 * Resolves the collect sets of references. Resolutions to members of
+	 * binary components are looked up in and added to the
+	 * {@link ReferenceResolutionCache}, so that they are not resolved again on
+	 * the next build.
 	 *
 	 * @param map the mapping of keys to sets of {@link IReference}s
+	 * @return the number of sets resolved from the cache
 	 * @throws CoreException if something bad happens
 	 */
-	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
+	private static int resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
+		ReferenceResolutionCache cache = ReferenceResolutionCache.getCache();
+		int cached = 0;
 		IReference ref = null;
-		for (List<IReference> refs : map.values()) {
+		for (Entry<String, List<IReference>> entry : map.entrySet()) {
+			List<IReference> refs = entry.getValue();
 			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
+			IApiComponent referencing = ref.getMember().getApiComponent();
+			IApiBaseline baseline = referencing == null ? null : referencing.getBaseline();
+			IApiMember resolved = null;
+			if (baseline != null && ((Reference) ref).getResolveStatus()) {
+				resolved = cache.getResolution(baseline, referencing, entry.getKey());
+			}
+			if (resolved != null) {
+				cached++;
+			} else {
+				((Reference) ref).resolve();
+				resolved = ref.getResolvedReference();
+				if (resolved != null && baseline != null) {
+					cache.cacheResolution(baseline, referencing, entry.getKey(), resolved);
+				}
+			}
 			if (resolved != null) {
 				for (IReference ref2 : refs) {
 					((Reference) ref2).setResolution(resolved);
 				}
 			}
 		}
+		return cached;
 	}
 
 	/**
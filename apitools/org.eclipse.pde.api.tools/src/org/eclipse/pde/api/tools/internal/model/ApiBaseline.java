@@ -66,6 +66,7 @@ import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager.ApiBaselineManagerRule;
 import org.eclipse.pde.api.tools.internal.CoreMessages;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -740,7 +741,24 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (disposed || restored) {
 			return;
 		}
-		IApiComponent[] components = ApiBaselineManager.getManager().readBaselineComponents(this, stream);
+		restoreFrom(ApiBaselineManager.getManager().readBaselineComponents(this, stream));
+	}
+
+	/**
+	 * Restores the given components, read from a persisted baseline, into this
+	 * baseline. Does nothing if the baseline was already restored.
+	 *
+	 * @param components the restored components or <code>null</code>
+	 */
+	public void restoreFrom(IApiComponent[] components) {
+		if (disposed || restored) {
+			if (components != null) {
+				for (IApiComponent component : components) {
+					component.dispose();
+				}
+			}
+			return;
+		}
 		if (components == null) {
 			restored = true;
 			return;
@@ -868,6 +886,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	void clearCachedElements() {
 		ApiModelCache.getCache().removeElementInfo(this);
+		ReferenceResolutionCache.getCache().removeBaseline(getName());
 	}
 
 	/**
@@ -0,0 +1,342 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.framework.util.CaseInsensitiveDictionaryMap;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+
+/**
+ * Reads and writes binary snapshots of {@link IApiBaseline}s.
+ * <p>
+ * A snapshot records, for every bundle component of a baseline, its location
+ * together with the size and modification time it had when the snapshot was
+ * written, its complete manifest and the contents of its .api_description
+ * file. Restoring a baseline from a snapshot then creates the components from
+ * these descriptors without opening the bundles; their
+ * {@link org.eclipse.osgi.service.resolver.BundleDescription}s, API
+ * descriptions and type containers are still built lazily on first use.
+ * Components whose bundle changed since the snapshot was written are re-read
+ * from their location.
+ * </p>
+ * <p>
+ * The class index of archives is not part of the snapshot since it is already
+ * persisted per archive, see {@link ArchiveClassIndex}.
+ * </p>
+ */
+public final class ApiBaselineSnapshot {
+
+	/**
+	 * File extension of baseline snapshots
+	 */
+	public static final String SNAPSHOT_FILE_EXTENSION = ".api_snapshot"; //$NON-NLS-1$
+
+	/**
+	 * Magic number identifying a snapshot file
+	 */
+	private static final int MAGIC = 0x41504953; // 'APIS'
+
+	/**
+	 * Version of the snapshot file format, bump when the layout changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * The data recorded for one component
+	 */
+	private record ComponentRecord(String path, long size, long modified, Map<String, String> manifest,
+			String apiDescription) {
+
+		boolean isCurrent() {
+			return Arrays.equals(getStamp(new File(path)), new long[] { size, modified });
+		}
+	}
+
+	private ApiBaselineSnapshot() {
+		// no instantiation
+	}
+
+	/**
+	 * Returns if the given file denotes a baseline snapshot, judging by its
+	 * name
+	 *
+	 * @param file the file
+	 * @return <code>true</code> if the file name has the snapshot extension
+	 */
+	public static boolean isSnapshot(File file) {
+		return file.getName().endsWith(SNAPSHOT_FILE_EXTENSION);
+	}
+
+	/**
+	 * Writes a snapshot of the given baseline to the given file. System
+	 * library components are not part of the snapshot, they are derived from
+	 * the execution environment of the baseline.
+	 * <p>
+	 * If the file already holds a snapshot, the data of the components that
+	 * did not change since is reused and only the other components are read
+	 * from their bundles. The file is not written at all if the snapshot is up
+	 * to date.
+	 * </p>
+	 *
+	 * @param baseline the baseline to write
+	 * @param file the snapshot file, replaced if it exists
+	 * @return <code>true</code> if the file was written, <code>false</code> if
+	 *         it already was up to date
+	 * @throws CoreException if the snapshot cannot be written
+	 */
+	public static boolean write(IApiBaseline baseline, Path file) throws CoreException {
+		long start = System.currentTimeMillis();
+		List<String> locations = new ArrayList<>();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			Set<IApiComponent> versions = baseline.getAllApiComponents(component.getSymbolicName());
+			for (IApiComponent version : versions.isEmpty() ? Set.of(component) : versions) {
+				if (!version.isSystemComponent() && version instanceof BundleComponent) {
+					locations.add(new File(version.getLocation()).getAbsolutePath());
+				}
+			}
+		}
+		Map<String, ComponentRecord> previous = new HashMap<>();
+		if (Files.isRegularFile(file)) {
+			try {
+				for (ComponentRecord record : readRecords(file)) {
+					previous.put(record.path(), record);
+				}
+			} catch (IOException | CoreException e) {
+				// not a valid snapshot, rewritten from scratch
+			}
+		}
+		List<ComponentRecord> records = new ArrayList<>(locations.size());
+		int stale = 0;
+		try {
+			for (String path : locations) {
+				ComponentRecord record = previous.get(path);
+				if (record == null || !record.isCurrent()) {
+					File location = new File(path);
+					long[] stamp = getStamp(location);
+					record = new ComponentRecord(path, stamp[0], stamp[1], ManifestUtils.loadManifest(location),
+							BundleComponent.loadApiDescription(location));
+					stale++;
+				}
+				records.add(record);
+			}
+			if (stale == 0 && previous.size() == records.size()) {
+				return false;
+			}
+			Path dir = file.toAbsolutePath().getParent();
+			Files.createDirectories(dir);
+			Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					writeString(out, baseline.getName());
+					writeString(out, baseline.getLocation());
+					out.writeInt(records.size());
+					for (ComponentRecord record : records) {
+						writeString(out, record.path());
+						out.writeLong(record.size());
+						out.writeLong(record.modified());
+						out.writeInt(record.manifest().size());
+						for (Map.Entry<String, String> header : record.manifest().entrySet()) {
+							writeString(out, header.getKey());
+							writeString(out, header.getValue());
+						}
+						writeString(out, record.apiDescription());
+					}
+				}
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error writing API baseline snapshot " + file, e)); //$NON-NLS-1$
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to write snapshot of baseline " + baseline.getName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + "ms, " + stale + " components read"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * Creates a new baseline with the given name from the given snapshot file,
+	 * using the given execution environment description if not running in the
+	 * framework.
+	 *
+	 * @param name the name of the new baseline
+	 * @param file the snapshot file
+	 * @param eeFile the execution environment description or <code>null</code>
+	 *            to use the default one
+	 * @return the new baseline, never <code>null</code>
+	 * @throws CoreException if the snapshot cannot be read
+	 */
+	public static IApiBaseline newApiBaseline(String name, Path file, File eeFile) throws CoreException {
+		ApiBaseline baseline;
+		if (ApiPlugin.isRunningInFramework()) {
+			baseline = (ApiBaseline) ApiModelFactory.newApiBaseline(name);
+		} else if (eeFile != null) {
+			baseline = (ApiBaseline) ApiModelFactory.newApiBaseline(name, eeFile);
+		} else {
+			baseline = (ApiBaseline) ApiModelFactory.newApiBaseline(name, Util.getEEDescriptionFile(), null);
+		}
+		baseline.addApiComponents(readComponents(baseline, file));
+		return baseline;
+	}
+
+	/**
+	 * Reads the components of the given baseline from the given snapshot file
+	 * and sets the baseline location. The components are not added to the
+	 * baseline.
+	 *
+	 * @param baseline the baseline to read components for
+	 * @param file the snapshot file
+	 * @return the components, sorted by name as for restored XML profiles
+	 * @throws CoreException if the snapshot cannot be read
+	 */
+	public static IApiComponent[] readComponents(ApiBaseline baseline, Path file) throws CoreException {
+		long start = System.currentTimeMillis();
+		List<IApiComponent> components = new ArrayList<>();
+		int stale = 0;
+		try {
+			Set<String> seen = new HashSet<>();
+			for (ComponentRecord record : readRecords(file, baseline)) {
+				if (!seen.add(record.path())) {
+					continue;
+				}
+				IApiComponent component;
+				if (record.isCurrent()) {
+					component = ApiModelFactory.newApiComponent(baseline, record.path(), record.manifest(),
+							record.apiDescription());
+				} else {
+					// the bundle changed since the snapshot was taken
+					stale++;
+					component = ApiModelFactory.newApiComponent(baseline, record.path());
+				}
+				if (component != null) {
+					components.add(component);
+				}
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error reading API baseline snapshot " + file, e)); //$NON-NLS-1$
+		}
+		IApiComponent[] restored = components.toArray(new IApiComponent[components.size()]);
+		// same traversal order as for baselines restored from XML profiles
+		Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to restore baseline snapshot " + file + ": " + (System.currentTimeMillis() - start) //$NON-NLS-1$ //$NON-NLS-2$
+					+ "ms, " + stale + " stale components"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return restored;
+	}
+
+	private static List<ComponentRecord> readRecords(Path file) throws IOException, CoreException {
+		return readRecords(file, null);
+	}
+
+	/**
+	 * Reads the component records of the given snapshot file, setting the
+	 * location of the given baseline if any
+	 */
+	private static List<ComponentRecord> readRecords(Path file, ApiBaseline baseline)
+			throws IOException, CoreException {
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				throw new CoreException(Status.error("Unsupported API baseline snapshot format: " + file)); //$NON-NLS-1$
+			}
+			readString(in); // the name of the baseline the snapshot was taken from
+			String location = readString(in);
+			if (location != null && baseline != null) {
+				baseline.setLocation(location);
+			}
+			int count = in.readInt();
+			List<ComponentRecord> records = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				String path = readString(in);
+				long size = in.readLong();
+				long modified = in.readLong();
+				int headers = in.readInt();
+				// header lookups are case insensitive as for parsed manifests
+				Map<String, String> manifest = new CaseInsensitiveDictionaryMap<>(headers);
+				for (int j = 0; j < headers; j++) {
+					manifest.put(readString(in), readString(in));
+				}
+				records.add(new ComponentRecord(path, size, modified, manifest, readString(in)));
+			}
+			return records;
+		}
+	}
+
+	/**
+	 * Returns the size and modification time identifying the current state of
+	 * the bundle at the given location. For directory bundles this is the
+	 * state of their manifest.
+	 *
+	 * @return the size and modification time, <code>-1</code> if unknown
+	 */
+	private static long[] getStamp(File location) {
+		File file = location.isDirectory() ? new File(location, JarFile.MANIFEST_NAME) : location;
+		if (!file.isFile()) {
+			return new long[] { -1, -1 };
+		}
+		return new long[] { file.length(), file.lastModified() };
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,57 +14,158 @@
 package org.eclipse.pde.api.tools.internal.model;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache;
+import org.eclipse.pde.api.tools.internal.ConcurrentWeightedCache.KeyListener;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 
 /**
- * Manages the caches of {@link IApiElement}s
+ * Manages the caches of {@link IApiElement}s.
+ * <p>
+ * Elements are kept in {@link ConcurrentWeightedCache}s, so lookups from
+ * concurrent builds do not contend on a global monitor, and the caches are
+ * bounded by the estimated size of the cached types rather than by their
+ * number. The maximum weight can be set with the
+ * <code>org.eclipse.pde.api.tools.modelCacheWeight</code> system property.
+ * </p>
+ * <p>
+ * The keys of the cached types are also indexed by component, so removing the
+ * types of a component or the member types of a type does not need to scan the
+ * caches. The caches update the index while the key is locked, so an entry
+ * cannot be cached without being indexed.
+ * </p>
  *
  * @since 1.0.2
  */
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * Key of a cached type: the baseline, the component and the qualified
+	 * type name
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
-
-		/**
-		 * Constructor
-		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
+	record TypeKey(String baseline, String component, String typename) {
+		ComponentKey componentKey() {
+			return new ComponentKey(baseline, component);
 		}
+	}
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
-		}
+	/**
+	 * Key of the cached types of a component: the baseline and the component
+	 */
+	record ComponentKey(String baseline, String component) {
+	}
 
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
-		}
+	/**
+	 * Default maximum weight of each cache, the weight of a type being its
+	 * number of fields, methods and member types plus one
+	 */
+	static final long DEFAULT_CACHE_WEIGHT = 1_000_000;
 
-	}
+	/**
+	 * Number of independently locked segments of each cache
+	 */
+	static final int CONCURRENCY = 16;
 
-	static final int DEFAULT_CACHE_SIZE = 1000;
-	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	final ConcurrentWeightedCache<TypeKey, IApiElement> fRootCache;
+	final ConcurrentWeightedCache<TypeKey, IApiElement> fMemberTypeCache;
+
+	/**
+	 * The keys in the root cache by component
+	 */
+	final Map<ComponentKey, Set<TypeKey>> fRootKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * The keys in the member type cache by component and root type name
+	 */
+	final Map<ComponentKey, Map<String, Set<TypeKey>>> fMemberTypeKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of components with types in the root cache by baseline id,
+	 * used to look up system library types across baselines
+	 */
+	final Map<String, Integer> fBaselines = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor - no instantiation
 	 */
 	private ApiModelCache() {
+		long weight = Long.getLong("org.eclipse.pde.api.tools.modelCacheWeight", DEFAULT_CACHE_WEIGHT).longValue(); //$NON-NLS-1$
+		fRootCache = new ConcurrentWeightedCache<>(weight, CONCURRENCY, ApiModelCache::estimateSize,
+				new KeyListener<TypeKey>() {
+					@Override
+					public void added(TypeKey key) {
+						indexRootKey(key);
+					}
+
+					@Override
+					public void removed(TypeKey key) {
+						unindexRootKey(key);
+					}
+				});
+		fMemberTypeCache = new ConcurrentWeightedCache<>(weight, CONCURRENCY, ApiModelCache::estimateSize,
+				new KeyListener<TypeKey>() {
+					@Override
+					public void added(TypeKey key) {
+						indexMemberTypeKey(key);
+					}
+
+					@Override
+					public void removed(TypeKey key) {
+						unindexMemberTypeKey(key);
+					}
+				});
+	}
+
+	private void indexRootKey(TypeKey key) {
+		fRootKeys.compute(key.componentKey(), (k, keys) -> {
+			Set<TypeKey> result = keys;
+			if (result == null) {
+				result = ConcurrentHashMap.newKeySet();
+				fBaselines.merge(key.baseline(), Integer.valueOf(1), Integer::sum);
+			}
+			result.add(key);
+			return result;
+		});
+	}
+
+	private void unindexRootKey(TypeKey key) {
+		fRootKeys.computeIfPresent(key.componentKey(), (k, keys) -> {
+			keys.remove(key);
+			if (!keys.isEmpty()) {
+				return keys;
+			}
+			// forget the baseline once no type of it is cached anymore
+			fBaselines.computeIfPresent(key.baseline(),
+					(baseline, count) -> count.intValue() == 1 ? null : Integer.valueOf(count.intValue() - 1));
+			return null;
+		});
+	}
+
+	private void indexMemberTypeKey(TypeKey key) {
+		fMemberTypeKeys.compute(key.componentKey(), (k, roots) -> {
+			Map<String, Set<TypeKey>> result = roots != null ? roots : new ConcurrentHashMap<>();
+			result.computeIfAbsent(getRootName(key.typename()), root -> ConcurrentHashMap.newKeySet()).add(key);
+			return result;
+		});
+	}
+
+	private void unindexMemberTypeKey(TypeKey key) {
+		fMemberTypeKeys.computeIfPresent(key.componentKey(), (k, roots) -> {
+			roots.computeIfPresent(getRootName(key.typename()), (root, keys) -> {
+				keys.remove(key);
+				return keys.isEmpty() ? null : keys;
+			});
+			return roots.isEmpty() ? null : roots;
+		});
 	}
 
 	/**
@@ -80,15 +181,15 @@ public final class ApiModelCache {
 	}
 
 	/**
-	 * Returns the key to use in a cache. The key is of the form:
-	 * <code>[baselineid].[componentid].[typename]</code><br>
+	 * Returns the estimated weight of the given element in the cache
 	 *
-	 * @return the member type cache key to use
+	 * @return the weight of the element
 	 */
-	private String getCacheKey(String baseline, String component, String typename) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(baseline).append('.').append(component).append('.').append(typename);
-		return buffer.toString();
+	private static int estimateSize(IApiElement element) {
+		if (element instanceof ApiType type) {
+			return type.estimateSize();
+		}
+		return 1;
 	}
 
 	/**
@@ -103,9 +204,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,45 +211,13 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
 					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
-						mcache.put(type.getName(), type);
+					TypeKey key = new TypeKey(baseline.getName(), id, type.getName());
+					// cache even a root type with a '$' in its name here as well
+					if (type.isMemberType() || isMemberType(type.getName())) {
+						fMemberTypeCache.put(key, type);
 					} else {
-						typecache.put(element.getName(), element);
+						fRootCache.put(key, element);
 					}
 				}
 				break;
@@ -167,7 +233,7 @@ public final class ApiModelCache {
 	 *
 	 * @return the pruned name or the original name
 	 */
-	private String getRootName(String typename) {
+	private static String getRootName(String typename) {
 		int idx = typename.indexOf('$');
 		if (idx > -1) {
 			return typename.substring(0, idx);
@@ -205,35 +271,24 @@ public final class ApiModelCache {
 		}
 		switch (type) {
 			case IApiElement.TYPE: {
+				if (identifier == null) {
+					break;
+				}
+				IApiElement element;
 				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
-					}
+					element = fMemberTypeCache.get(new TypeKey(baselineid, componentid, identifier));
 				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
-							}
-						}
-					}
+					element = fRootCache.get(new TypeKey(baselineid, componentid, identifier));
+				}
+				if (element != null) {
+					return element;
 				}
 				break;
 			}
 			default:
 				break;
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
+		if (componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
 			// for system component, retrieve element from any baseline instead
 			// of recreating the structure and caching the equivalent element info
 			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
@@ -245,26 +300,21 @@ public final class ApiModelCache {
 	}
 
 	private IApiElement getElementInfoFromAnyBaseline(String baselineid, String componentid, String updatedIdentifier) {
-		List<String> elements = fRootCache.keysSnapshot();
-		for (String otherBaselines : elements) {
-				if (otherBaselines.equals(baselineid)) {
-					continue;
-				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
-				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
-					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
-						if (ele != null) {
-							return ele;
-						}
-					}
-				}
+		if (updatedIdentifier == null) {
+			return null;
+		}
+		for (String otherBaseline : fBaselines.keySet()) {
+			if (otherBaseline.equals(baselineid)) {
+				continue;
+			}
+			IApiElement ele = fRootCache.get(new TypeKey(otherBaseline, componentid, updatedIdentifier));
+			if (ele != null) {
+				return ele;
 			}
+		}
 		return null;
 	}
 
-
 	/**
 	 * Removes the {@link IApiElement} from the given component (given its id)
 	 * with the given identifier and of the given type.
@@ -282,60 +332,27 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (componentid != null && identifier != null) {
-					boolean removed = true;
-					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						}
+					TypeKey key = new TypeKey(baselineid, componentid, identifier);
+					if (isMemberType(identifier)) {
+						return fMemberTypeCache.remove(key) != null;
 					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
-							}
-
-						}
-					} else {
-						return false;
+					// clean member type cache
+					Map<String, Set<TypeKey>> roots = fMemberTypeKeys.get(key.componentKey());
+					if (roots != null) {
+						removeAll(fMemberTypeCache, roots.get(getRootName(identifier)));
 					}
+					return fRootCache.remove(key) != null;
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
-				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-					if (compcache != null) {
-						boolean removed = compcache.remove(componentid) != null;
-						if (compcache.isEmpty()) {
-							removed &= fRootCache.remove(baselineid) != null;
-						}
-						return removed;
-					}
+				if (componentid != null) {
+					return removeComponent(new ComponentKey(baselineid, componentid));
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				return removeBaseline(baselineid);
 			}
 			default:
 				break;
@@ -343,6 +360,57 @@ public final class ApiModelCache {
 		return false;
 	}
 
+	/**
+	 * Removes all elements of the given baseline from the caches
+	 *
+	 * @return true if elements were removed from the root cache
+	 */
+	private boolean removeBaseline(String baselineid) {
+		boolean removed = false;
+		for (ComponentKey componentKey : fRootKeys.keySet()) {
+			if (componentKey.baseline().equals(baselineid)) {
+				removed |= removeComponent(componentKey);
+			}
+		}
+		for (ComponentKey componentKey : fMemberTypeKeys.keySet()) {
+			if (componentKey.baseline().equals(baselineid)) {
+				removeComponent(componentKey);
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all elements of the given component from the caches
+	 *
+	 * @return true if elements were removed from the root cache
+	 */
+	private boolean removeComponent(ComponentKey componentKey) {
+		Map<String, Set<TypeKey>> roots = fMemberTypeKeys.get(componentKey);
+		if (roots != null) {
+			for (Set<TypeKey> keys : roots.values()) {
+				removeAll(fMemberTypeCache, keys);
+			}
+		}
+		return removeAll(fRootCache, fRootKeys.get(componentKey));
+	}
+
+	/**
+	 * Removes the given keys from the given cache
+	 *
+	 * @return true if at least one element was removed
+	 */
+	private static boolean removeAll(ConcurrentWeightedCache<TypeKey, IApiElement> cache, Set<TypeKey> keys) {
+		boolean removed = false;
+		if (keys != null) {
+			// the index is updated as keys are removed
+			for (TypeKey key : List.copyOf(keys)) {
+				removed |= cache.remove(key) != null;
+			}
+		}
+		return removed;
+	}
+
 	/**
 	 * Removes the given {@link IApiElement} info from the cache and returns it
 	 * if present
@@ -356,26 +424,20 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return removeBaseline(baseline.getName());
 			}
 			default:
 				break;
@@ -387,19 +449,42 @@ public final class ApiModelCache {
 	 * Clears out all cached information.
 	 */
 	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
-		}
-		flushMemberCache();
+		// the index is cleared as the caches are flushed
+		fRootCache.flush();
+		fMemberTypeCache.flush();
 	}
 
 	/**
-	 * Flushes the cache of member types
+	 * Returns the number of lookups that found a cached element
+	 *
+	 * @return the hit count
 	 */
-	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
-		}
+	public long getHitCount() {
+		return fRootCache.getHitCount() + fMemberTypeCache.getHitCount();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a cached element
+	 *
+	 * @return the miss count
+	 */
+	public long getMissCount() {
+		return fRootCache.getMissCount() + fMemberTypeCache.getMissCount();
+	}
+
+	/**
+	 * Returns the number of elements evicted to keep the caches within their
+	 * weight limit
+	 *
+	 * @return the eviction count
+	 */
+	public long getEvictionCount() {
+		return fRootCache.getEvictionCount() + fMemberTypeCache.getEvictionCount();
+	}
+
+	@Override
+	public String toString() {
+		return "ApiModelCache [types=" + fRootCache + ", member types=" + fMemberTypeCache + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
 
 	/**
@@ -408,13 +493,6 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fRootCache.isEmpty() && fMemberTypeCache.isEmpty();
 	}
 }
@@ -18,6 +18,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -95,6 +96,29 @@ public class ApiModelFactory {
 		return null;
 	}
 
+	/**
+	 * Creates and returns a new API component for this baseline at the
+	 * specified location from the manifest and API description restored from a
+	 * baseline snapshot, or <code>null</code> if the manifest does not describe
+	 * a valid API component. The component is not added to the baseline.
+	 *
+	 * @param location absolute path in the local file system to the API
+	 *            component
+	 * @param manifest the complete manifest headers of the component
+	 * @param apiDescription the contents of the .api_description file or
+	 *            <code>null</code> if the component has none
+	 * @return API component or <code>null</code>
+	 * @exception CoreException if unable to create the component
+	 * @see ApiBaselineSnapshot
+	 */
+	static IApiComponent newApiComponent(IApiBaseline baseline, String location, Map<String, String> manifest, String apiDescription) throws CoreException {
+		BundleComponent component = new BundleComponent(baseline, location, getBundleID(), manifest, apiDescription);
+		if (component.isValidBundle()) {
+			return component;
+		}
+		return null;
+	}
+
 	/**
 	 * Creates and returns a new API component for this baseline based on the
 	 * given model or <code>null</code> if the given model cannot be resolved or
@@ -162,6 +162,26 @@ public class ApiType extends ApiMember implements IApiType {
 		return new LinkedList<>(references);
 	}
 
+	/**
+	 * Returns an estimate of the memory held by this type structure, in number
+	 * of member elements, used to weigh it in the {@link ApiModelCache}
+	 *
+	 * @return the estimated size, at least <code>1</code>
+	 */
+	int estimateSize() {
+		int size = 1;
+		if (fFields != null) {
+			size += fFields.size();
+		}
+		if (fMethods != null) {
+			size += fMethods.size();
+		}
+		if (fMemberTypes != null) {
+			size += fMemberTypes.size();
+		}
+		return size;
+	}
+
 	@Override
 	public IApiField getField(String name) {
 		if (fFields != null) {
@@ -247,6 +247,14 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
+			boolean isArchive = !fLocation.endsWith("jrt-fs.jar"); //$NON-NLS-1$
+			if (isArchive) {
+				// a valid persisted index avoids opening the archive at all
+				fPackages = ArchiveClassIndex.load(Path.of(fLocation));
+				if (fPackages != null) {
+					return;
+				}
+			}
 			fPackages = new TreeMap<>();
 			try {
 				Path location = getLocation();
@@ -265,6 +273,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 						}
 					});
 				}
+				if (isArchive) {
+					ArchiveClassIndex.store(Path.of(fLocation), fPackages);
+				}
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
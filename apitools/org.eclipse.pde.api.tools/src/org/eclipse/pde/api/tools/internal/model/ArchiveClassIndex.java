@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Persistent index of the class files contained in an archive. The index is
+ * stored in the API tools state location, one file per archive, and is only
+ * considered valid if the path, size and last modification time of the archive
+ * match the values recorded when the index was written.
+ * <p>
+ * A valid index avoids opening the archive at all on a warm load of a baseline
+ * until the contents of a class file are actually requested. Index files of
+ * archives that do not exist anymore are deleted once per session.
+ * </p>
+ */
+public final class ArchiveClassIndex {
+
+	/**
+	 * Name of the folder in the state location containing the index files
+	 */
+	private static final String INDEX_FOLDER = ".archive_index"; //$NON-NLS-1$
+
+	/**
+	 * Magic number identifying an index file
+	 */
+	private static final int MAGIC = 0x41434958; // 'ACIX'
+
+	/**
+	 * Version of the index file format, bump when the layout changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Upper bound of the strings read from an index, larger lengths indicate a
+	 * corrupt file
+	 */
+	private static final int MAX_STRING_LENGTH = 64 * 1024;
+
+	/**
+	 * Number of indexes successfully loaded in this session
+	 */
+	private static final AtomicInteger fLoadCount = new AtomicInteger();
+
+	/**
+	 * Whether the index files of removed archives have been pruned in this
+	 * session
+	 */
+	private static final AtomicBoolean fPruned = new AtomicBoolean();
+
+	private ArchiveClassIndex() {
+		// no instantiation
+	}
+
+	/**
+	 * Returns the persisted package index for the given archive or
+	 * <code>null</code> if there is none or the archive has changed since the
+	 * index was written.
+	 *
+	 * @param archive the archive in the local file system
+	 * @return map of package names to a map of class names to entry names or
+	 *         <code>null</code>
+	 */
+	static Map<String, Map<String, String>> load(Path archive) {
+		Path indexFile = getIndexFile(archive);
+		if (indexFile == null || !Files.isRegularFile(indexFile)) {
+			return null;
+		}
+		try (InputStream stream = Files.newInputStream(indexFile);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+			BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+			if (!archive.toString().equals(readString(in)) || in.readLong() != attributes.size()
+					|| in.readLong() != attributes.lastModifiedTime().toMillis()) {
+				return null;
+			}
+			Map<String, Map<String, String>> packages = new TreeMap<>();
+			int packageCount = in.readInt();
+			for (int i = 0; i < packageCount; i++) {
+				String pkg = readString(in);
+				Map<String, String> classes = new TreeMap<>();
+				int classCount = in.readInt();
+				for (int j = 0; j < classCount; j++) {
+					classes.put(readString(in), readString(in));
+				}
+				packages.put(pkg, classes);
+			}
+			fLoadCount.incrementAndGet();
+			return packages;
+		} catch (IOException | IllegalArgumentException e) {
+			// a missing archive or corrupt index is simply re-scanned
+			return null;
+		}
+	}
+
+	/**
+	 * Persists the package index of the given archive. Failures are logged and
+	 * otherwise ignored since the index is only an optimization.
+	 *
+	 * @param archive the archive in the local file system
+	 * @param packages map of package names to a map of class names to entry
+	 *            names
+	 */
+	static void store(Path archive, Map<String, Map<String, String>> packages) {
+		Path indexFile = getIndexFile(archive);
+		if (indexFile == null) {
+			return;
+		}
+		if (fPruned.compareAndSet(false, true)) {
+			prune(indexFile.getParent());
+		}
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+			Files.createDirectories(indexFile.getParent());
+			Path tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (OutputStream stream = Files.newOutputStream(tmp);
+						DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					writeString(out, archive.toString());
+					out.writeLong(attributes.size());
+					out.writeLong(attributes.lastModifiedTime().toMillis());
+					out.writeInt(packages.size());
+					for (Map.Entry<String, Map<String, String>> entry : packages.entrySet()) {
+						writeString(out, entry.getKey());
+						Map<String, String> classes = entry.getValue();
+						out.writeInt(classes.size());
+						for (Map.Entry<String, String> classEntry : classes.entrySet()) {
+							writeString(out, classEntry.getKey());
+							writeString(out, classEntry.getValue());
+						}
+					}
+				}
+				Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to persist class index for archive: " + archive, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Deletes the index files in the given folder whose archive does not exist
+	 * anymore, as well as unreadable index files.
+	 *
+	 * @param folder the folder containing the index files
+	 */
+	private static void prune(Path folder) {
+		if (!Files.isDirectory(folder)) {
+			return;
+		}
+		try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(folder, "*.idx")) { //$NON-NLS-1$
+			for (Path indexFile : indexFiles) {
+				boolean stale = true;
+				try (InputStream stream = Files.newInputStream(indexFile);
+						DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+					if (in.readInt() == MAGIC && in.readInt() == VERSION) {
+						stale = !Files.isRegularFile(Path.of(readString(in)));
+					}
+				} catch (IOException | IllegalArgumentException e) {
+					// unreadable, deleted below
+				}
+				if (stale) {
+					Files.deleteIfExists(indexFile);
+				}
+			}
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to prune archive class indexes in: " + folder, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @return the number of persisted indexes loaded in this session
+	 */
+	public static int getLoadCount() {
+		return fLoadCount.get();
+	}
+
+	/**
+	 * Returns the index file to use for the given archive or <code>null</code>
+	 * if indexes cannot be persisted, i.e. when not running in the framework.
+	 *
+	 * @param archive the archive in the local file system
+	 * @return the index file or <code>null</code>
+	 */
+	public static Path getIndexFile(Path archive) {
+		if (!ApiPlugin.isRunningInFramework()) {
+			return null;
+		}
+		String key = UUID.nameUUIDFromBytes(archive.toString().getBytes(StandardCharsets.UTF_8)).toString();
+		return ApiPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).append(key + ".idx").toPath(); //$NON-NLS-1$
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_STRING_LENGTH) {
+			throw new IllegalArgumentException("Corrupt string length: " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
@@ -163,6 +164,15 @@ public class BundleComponent extends Component {
 	 */
 	private volatile String[] fdeclaredRequiredEE;
 
+	/**
+	 * The contents of the .api_description file restored from a baseline
+	 * snapshot, an empty optional if the component has none, or
+	 * <code>null</code> if the file has to be read from the component location
+	 *
+	 * @see ApiBaselineSnapshot
+	 */
+	private volatile Optional<String> fSnapshotApiDescription;
+
 	/**
 	 * Constructs a new API component from the specified location in the file
 	 * system in the given baseline.
@@ -186,6 +196,25 @@ public class BundleComponent extends Component {
 				&& !new File(location).isFile();
 	}
 
+	/**
+	 * Constructs a new API component from the manifest and API description
+	 * restored from a baseline snapshot, so that neither has to be read from
+	 * the component location.
+	 *
+	 * @param baseline owning API baseline
+	 * @param location directory or jar file
+	 * @param manifest the complete manifest headers of the bundle
+	 * @param apiDescription the contents of the .api_description file or
+	 *            <code>null</code> if the bundle has none
+	 * @exception CoreException if unable to create a component from the
+	 *                specified location
+	 */
+	BundleComponent(IApiBaseline baseline, String location, long bundleid, Map<String, String> manifest, String apiDescription) throws CoreException {
+		this(baseline, location, bundleid);
+		fManifest = manifest;
+		fSnapshotApiDescription = Optional.ofNullable(apiDescription);
+	}
+
 	@Override
 	public void dispose() {
 		if (isDisposed()) {
@@ -431,7 +460,10 @@ public class BundleComponent extends Component {
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			Optional<String> snapshot = fSnapshotApiDescription;
+			String xml = snapshot != null ? snapshot.orElse(null) : loadApiDescription(new File(fLocation));
+			// only needed once, the description is cached by the component
+			fSnapshotApiDescription = null;
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
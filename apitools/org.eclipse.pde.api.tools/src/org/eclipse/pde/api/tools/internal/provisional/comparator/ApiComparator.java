@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -99,6 +106,36 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference, comparing up to <code>parallelism</code>
+	 * components and their types concurrently.
+	 * <p>
+	 * The deltas computed concurrently are merged in the order a sequential
+	 * comparison adds them, so the returned delta is the same whatever the
+	 * parallelism.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the number of worker threads to use, <code>1</code>
+	 *            to compare sequentially
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -107,43 +144,63 @@ public class ApiComparator {
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
-		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		try {
+			Map<IApiComponent, ForkJoinTask<IDelta>> tasks = new HashMap<>();
+			if (pool != null) {
+				for (IApiComponent apiComponent : apiComponents) {
+					if (!apiComponent.isSystemComponent()) {
+						IApiComponent apiComponentBaseline = baseline.getApiComponent(apiComponent.getSymbolicName());
+						if (apiComponentBaseline != null && (!apiComponent.getVersion().equals(apiComponentBaseline.getVersion()) || force)) {
+							tasks.put(apiComponent, pool.submit(() -> {
+								if (localmonitor.isCanceled()) {
+									return null;
+								}
+								return compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline, visibilityModifiers, true, null);
+							}));
+						}
 					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+				}
+			}
+			SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
+			for (IApiComponent apiComponentMainLoop : apiComponents) {
+				apiLoopMonitor.split(1);
+				IApiComponent apiComponent = apiComponentMainLoop;
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+					IDelta delta = null;
+					if (apiComponentBaseline == null) {
+						// report removal of an API component
+						delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
+								null, id, id);
+					} else {
+						apiComponentsIds.add(id);
+						String versionString = apiComponent.getVersion();
+						String versionString2 = apiComponentBaseline.getVersion();
+						IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
+								versionString, versionString2);
+						if (bundleVersionChangesDelta != null) {
+							globalDelta.add(bundleVersionChangesDelta);
+						}
+						if (!versionString.equals(versionString2) || force) {
+							ForkJoinTask<IDelta> task = tasks.get(apiComponent);
+							if (task != null) {
+								delta = task.join();
+							} else {
+								delta = compareComponent(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
+										visibilityModifiers, false, localmonitor.split(1));
 							}
 						}
 					}
+					if (delta != null && delta != NO_DELTA) {
+						globalDelta.add(delta);
+					}
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
-				}
+			}
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
 			}
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
@@ -162,6 +219,22 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares the given component of the baseline with the one of the
+	 * reference baseline, tracing the time spent if asked to.
+	 */
+	private static IDelta compareComponent(final IApiComponent referenceComponent, final IApiComponent component, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean parallel, final IProgressMonitor monitor) {
+		long time = System.currentTimeMillis();
+		try {
+			return compare(referenceComponent, component, referenceBaseline, baseline, visibilityModifiers, parallel, monitor);
+		} finally {
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				System.out.println("Time spent for " + referenceComponent.getSymbolicName() + " " + referenceComponent.getVersion() + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+			}
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -245,6 +318,17 @@ public class ApiComparator {
 	 *                </ul>
 	 */
 	public static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final IProgressMonitor monitor) {
+		return compare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, false, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * components, see
+	 * {@link #compare(IApiComponent, IApiComponent, IApiBaseline, IApiBaseline, int, IProgressMonitor)}.
+	 * If <code>parallel</code> is set the types of the components are compared
+	 * in parallel, this is only allowed when running in a {@link ForkJoinPool}.
+	 */
+	static IDelta compare(final IApiComponent referenceComponent, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean parallel, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 3);
 		try {
 			if (referenceComponent == null) {
@@ -281,7 +365,7 @@ public class ApiComparator {
 						currentEE,
 						Util.getComponentVersionsId(referenceComponent) }));
 			}
-			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, globalDelta, localmonitor.split(1));
+			return internalCompare(referenceComponent, component2, referenceBaseline, baseline, visibilityModifiers, globalDelta, parallel && ForkJoinTask.inForkJoinPool(), localmonitor.split(1));
 		} catch (CoreException e) {
 			// null means an error case
 			return null;
@@ -529,6 +613,40 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * baselines, comparing up to <code>parallelism</code> components of the
+	 * scope and their types concurrently.
+	 * <p>
+	 * The deltas computed concurrently are collected in the order a sequential
+	 * comparison collects them, so the returned delta is the same whatever the
+	 * parallelism.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the number of worker threads to use, <code>1</code>
+	 *            to compare sequentially
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 * @since 1.3
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
@@ -537,7 +655,16 @@ public class ApiComparator {
 		final Set<IDelta> deltas = new HashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
 				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		try {
+			visitor.setPool(pool);
+			scope.accept(visitor);
+			visitor.joinPending();
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -602,12 +729,14 @@ public class ApiComparator {
 	 * Performs the internal compare of the given {@link IApiComponent}s using
 	 * their type containers
 	 *
+	 * @param parallel whether to compare the types of the components in
+	 *            parallel, only allowed when running in a {@link ForkJoinPool}
 	 * @param monitor
 	 *
 	 * @return a delta of changed API elements
 	 */
-	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final Delta globalDelta, final IProgressMonitor monitor) throws CoreException {
-		final Set<String> typeRootBaseLineNames = new HashSet<>();
+	private static IDelta internalCompare(final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final Delta globalDelta, final boolean parallel, final IProgressMonitor monitor) throws CoreException {
+		final Set<String> typeRootBaseLineNames = parallel ? ConcurrentHashMap.newKeySet() : new HashSet<>();
 		final String id = component.getSymbolicName();
 		final SubMonitor localmonitor = SubMonitor.convert(monitor, 4);
 		IApiTypeContainer[] typeRootContainers = component.getApiTypeContainers(id);
@@ -618,128 +747,17 @@ public class ApiComparator {
 			SubMonitor loopMonitor = localmonitor.split(1).setWorkRemaining(typeRootContainers.length);
 			for (IApiTypeContainer container : typeRootContainers) {
 				SubMonitor iterationMonitor = loopMonitor.split(1);
+				if (parallel) {
+					compareTypeRootsInParallel(container, component, component2, referenceBaseline, baseline, apiDescription, apiDescription2, visibilityModifiers, globalDelta, typeRootBaseLineNames, iterationMonitor);
+					continue;
+				}
 				try {
 					container.accept(new ApiTypeContainerVisitor() {
 						@Override
 						public void visit(String packageName, IApiTypeRoot typeRoot) {
 							SubMonitor visitMonitor = iterationMonitor.setWorkRemaining(50).split(1).setWorkRemaining(2);
-							String typeName = typeRoot.getTypeName();
 							try {
-								IApiType typeDescriptor = typeRoot.getStructure();
-								IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
-								if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
-									// we skip nested types (member, local and
-									// anonymous)
-									return;
-								}
-								int visibility;
-								if (elementDescription != null) {
-									visibility = elementDescription.getVisibility();
-								} else {
-									// Annotation is missing, not an API?
-									visibility = 0;
-								}
-								IApiTypeRoot typeRoot2 = component2.findTypeRoot(typeName, id);
-								IApiComponent provider = null;
-								IApiDescription providerApiDesc = null;
-								boolean reexported = false;
-								if (typeRoot2 == null) {
-									// check if the type is provided by a
-									// required component (it could have been
-									// moved/re-exported)
-									IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
-									SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
-									int index = 0;
-									while (typeRoot2 == null && index < providers.length) {
-										providerMonitor.split(1);
-										IApiComponent p = providers[index];
-										if (!p.equals(component2)) {
-											String id2 = p.getSymbolicName();
-											typeRoot2 = p.findTypeRoot(typeName, id2);
-											if (typeRoot2 != null) {
-												provider = p;
-												providerApiDesc = p.getApiDescription();
-												IRequiredComponentDescription[] required = component2.getRequiredComponents();
-												for (IRequiredComponentDescription description : required) {
-													if (description.getId().equals(id2)) {
-														reexported = description.isExported();
-														break;
-													}
-												}
-											}
-										}
-										index++;
-									}
-								} else {
-									provider = component2;
-									providerApiDesc = apiDescription2;
-								}
-								visitMonitor.setWorkRemaining(1).split(1);
-								String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
-								if (typeRoot2 == null) {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
-										}
-									}
-									globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
-											typeName,
-													component2.isFragment()
-															? Util.getComponentVersionsId(component2.getHost())
-															: Util.getComponentVersionsId(component2) }));
-								} else {
-									if ((visibility & visibilityModifiers) == 0) {
-										// we skip the class file according to
-										// their visibility
-										return;
-									}
-									IApiType typeDescriptor2 = typeRoot2.getStructure();
-									IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
-									int visibility2 = 0;
-									if (elementDescription2 != null) {
-										visibility2 = elementDescription2.getVisibility();
-									}
-									if (visibilityModifiers == VisibilityModifiers.API) {
-										// if the visibility is API, we only
-										// consider public and protected types
-										if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
-											return;
-										}
-									}
-									if (Util.isAPI(visibility, typeDescriptor)) {
-										if (!Util.isAPI(visibility2, typeDescriptor2)) {
-											globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-													typeName,
-													Util.getComponentVersionsId(component2) }));
-											return;
-										}
-									}
-									if ((visibility2 & visibilityModifiers) == 0) {
-										// we simply report a changed visibility
-										globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
-												typeName,
-												Util.getComponentVersionsId(component2) }));
-									}
-									typeRootBaseLineNames.add(typeName);
-									ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
-									IDelta delta = comparator.getDelta();
-									if (ApiPlugin.DEBUG_API_COMPARATOR) {
-										IStatus status = comparator.getStatus();
-										if (status != null) {
-											ApiPlugin.log(status);
-										}
-									}
-									if (delta != null && delta != NO_DELTA) {
-										globalDelta.add(delta);
-									}
-								}
+								compareTypeRoot(packageName, typeRoot, component, component2, referenceBaseline, baseline, apiDescription, apiDescription2, visibilityModifiers, globalDelta, typeRootBaseLineNames, visitMonitor);
 							} catch (CoreException e) {
 								ApiPlugin.log(e);
 								AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), iterationMonitor);
@@ -976,4 +994,177 @@ public class ApiComparator {
 		}
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
+
+	/**
+	 * Compares all top level types of the given container of the reference
+	 * component, forking one task per type in the current
+	 * {@link ForkJoinPool}. The deltas of the types are added to the given
+	 * global delta in the order the container visits the types, so the result
+	 * is identical to a sequential comparison.
+	 */
+	private static void compareTypeRootsInParallel(final IApiTypeContainer container, final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final IApiDescription apiDescription, final IApiDescription apiDescription2, final int visibilityModifiers, final Delta globalDelta, final Set<String> typeRootBaseLineNames, final SubMonitor monitor) {
+		final List<ForkJoinTask<Delta>> tasks = new ArrayList<>();
+		try {
+			try {
+				container.accept(new ApiTypeContainerVisitor() {
+					@Override
+					public void visit(String packageName, IApiTypeRoot typeRoot) {
+						tasks.add(ForkJoinTask.adapt(() -> {
+							Delta delta = new Delta();
+							if (monitor.isCanceled()) {
+								return delta;
+							}
+							try {
+								compareTypeRoot(packageName, typeRoot, component, component2, referenceBaseline, baseline, apiDescription, apiDescription2, visibilityModifiers, delta, typeRootBaseLineNames, SubMonitor.convert(null));
+							} catch (CoreException e) {
+								ApiPlugin.log(e);
+								AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), monitor);
+							}
+							return delta;
+						}).fork());
+					}
+				});
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+				AbstractProblemDetector.checkIfDisposed(container.getApiComponent(), monitor);
+			}
+			monitor.setWorkRemaining(tasks.size());
+			for (ForkJoinTask<Delta> task : tasks) {
+				monitor.split(1);
+				for (IDelta delta : task.join().getChildren()) {
+					globalDelta.add(delta);
+				}
+			}
+		} finally {
+			for (ForkJoinTask<Delta> task : tasks) {
+				task.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Compares the given top level type of the reference component with its
+	 * counterpart in the compared component or one of the components providing
+	 * its package, adding the resulting deltas to the given global delta and
+	 * the names of the types found in both to the given set.
+	 */
+	private static void compareTypeRoot(final String packageName, final IApiTypeRoot typeRoot, final IApiComponent component, final IApiComponent component2, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final IApiDescription apiDescription, final IApiDescription apiDescription2, final int visibilityModifiers, final Delta globalDelta, final Set<String> typeRootBaseLineNames, final SubMonitor visitMonitor) throws CoreException {
+		final String id = component.getSymbolicName();
+		String typeName = typeRoot.getTypeName();
+		IApiType typeDescriptor = typeRoot.getStructure();
+		IApiAnnotations elementDescription = apiDescription.resolveAnnotations(typeDescriptor.getHandle());
+		if (typeDescriptor.isMemberType() || typeDescriptor.isAnonymous() || typeDescriptor.isLocal()) {
+			// we skip nested types (member, local and
+			// anonymous)
+			return;
+		}
+		int visibility;
+		if (elementDescription != null) {
+			visibility = elementDescription.getVisibility();
+		} else {
+			// Annotation is missing, not an API?
+			visibility = 0;
+		}
+		IApiTypeRoot typeRoot2 = component2.findTypeRoot(typeName, id);
+		IApiComponent provider = null;
+		IApiDescription providerApiDesc = null;
+		boolean reexported = false;
+		if (typeRoot2 == null) {
+			// check if the type is provided by a
+			// required component (it could have been
+			// moved/re-exported)
+			IApiComponent[] providers = component2.getBaseline().resolvePackage(component2, packageName);
+			SubMonitor providerMonitor = visitMonitor.split(1).setWorkRemaining(providers.length);
+			int index = 0;
+			while (typeRoot2 == null && index < providers.length) {
+				providerMonitor.split(1);
+				IApiComponent p = providers[index];
+				if (!p.equals(component2)) {
+					String id2 = p.getSymbolicName();
+					typeRoot2 = p.findTypeRoot(typeName, id2);
+					if (typeRoot2 != null) {
+						provider = p;
+						providerApiDesc = p.getApiDescription();
+						IRequiredComponentDescription[] required = component2.getRequiredComponents();
+						for (IRequiredComponentDescription description : required) {
+							if (description.getId().equals(id2)) {
+								reexported = description.isExported();
+								break;
+							}
+						}
+					}
+				}
+				index++;
+			}
+		} else {
+			provider = component2;
+			providerApiDesc = apiDescription2;
+		}
+		visitMonitor.setWorkRemaining(1).split(1);
+		String deltaComponentID = Util.getDeltaComponentVersionsId(component2);
+		if (typeRoot2 == null) {
+			if ((visibility & visibilityModifiers) == 0) {
+				// we skip the class file according to
+				// their visibility
+				return;
+			}
+			if (visibilityModifiers == VisibilityModifiers.API) {
+				// if the visibility is API, we only
+				// consider public and protected types
+				if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+					return;
+				}
+			}
+			globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, IDelta.TYPE, RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), 0, typeName, typeName, new String[] {
+					typeName,
+							component2.isFragment()
+									? Util.getComponentVersionsId(component2.getHost())
+									: Util.getComponentVersionsId(component2) }));
+		} else {
+			if ((visibility & visibilityModifiers) == 0) {
+				// we skip the class file according to
+				// their visibility
+				return;
+			}
+			IApiType typeDescriptor2 = typeRoot2.getStructure();
+			IApiAnnotations elementDescription2 = providerApiDesc.resolveAnnotations(typeDescriptor2.getHandle());
+			int visibility2 = 0;
+			if (elementDescription2 != null) {
+				visibility2 = elementDescription2.getVisibility();
+			}
+			if (visibilityModifiers == VisibilityModifiers.API) {
+				// if the visibility is API, we only
+				// consider public and protected types
+				if (Util.isDefault(typeDescriptor.getModifiers()) || Flags.isPrivate(typeDescriptor.getModifiers())) {
+					return;
+				}
+			}
+			if (Util.isAPI(visibility, typeDescriptor)) {
+				if (!Util.isAPI(visibility2, typeDescriptor2)) {
+					globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.REMOVED, reexported ? IDelta.REEXPORTED_API_TYPE : IDelta.API_TYPE, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+							typeName,
+							Util.getComponentVersionsId(component2) }));
+					return;
+				}
+			}
+			if ((visibility2 & visibilityModifiers) == 0) {
+				// we simply report a changed visibility
+				globalDelta.add(new Delta(deltaComponentID, IDelta.API_COMPONENT_ELEMENT_TYPE, IDelta.CHANGED, IDelta.TYPE_VISIBILITY, elementDescription2 != null ? elementDescription2.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS, RestrictionModifiers.NO_RESTRICTIONS, typeDescriptor.getModifiers(), typeDescriptor2.getModifiers(), typeName, typeName, new String[] {
+						typeName,
+						Util.getComponentVersionsId(component2) }));
+			}
+			typeRootBaseLineNames.add(typeName);
+			ClassFileComparator comparator = new ClassFileComparator(typeDescriptor, typeRoot2, component, provider, referenceBaseline, baseline, visibilityModifiers);
+			IDelta delta = comparator.getDelta();
+			if (ApiPlugin.DEBUG_API_COMPARATOR) {
+				IStatus status = comparator.getStatus();
+				if (status != null) {
+					ApiPlugin.log(status);
+				}
+			}
+			if (delta != null && delta != NO_DELTA) {
+				globalDelta.add(delta);
+			}
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.SubMonitor;
@@ -40,6 +44,15 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
 	SubMonitor monitor;
+	/**
+	 * Pool to compare components in, <code>null</code> to compare them while
+	 * visiting
+	 */
+	ForkJoinPool pool;
+	/**
+	 * Comparisons of components running in the {@link #pool}, in visit order
+	 */
+	final List<ForkJoinTask<List<IDelta>>> pending = new ArrayList<>();
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
 		this.deltas = deltas;
@@ -50,10 +63,34 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		this.monitor = monitor;
 	}
 
+	/**
+	 * Compares the visited components in the given pool rather than while
+	 * visiting them. The deltas of such components are only collected by
+	 * {@link #joinPending()}, in the order the components were visited.
+	 *
+	 * @param pool the pool to compare components in or <code>null</code>
+	 */
+	void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Waits for the comparisons of components running in the pool and collects
+	 * their deltas in the order the components were visited
+	 */
+	void joinPending() {
+		for (ForkJoinTask<List<IDelta>> task : this.pending) {
+			this.monitor.setWorkRemaining(100).split(1);
+			this.deltas.addAll(task.join());
+		}
+		this.pending.clear();
+	}
+
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
+		joinPending();
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.pool == null ? 1 : this.pool.getParallelism(), null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -109,8 +146,30 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.pool != null) {
+			this.pending.add(this.pool.submit(() -> {
+				if (this.monitor.isCanceled()) {
+					return List.of();
+				}
+				return compareComponent(referenceComponent, component, true);
+			}));
+		} else {
+			this.deltas.addAll(compareComponent(referenceComponent, component, false));
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the given component with its reference component and returns
+	 * the leaf deltas in visit order
+	 */
+	private List<IDelta> compareComponent(IApiComponent referenceComponent, IApiComponent component, boolean parallel) {
 		final Delta globalDelta = new Delta();
-		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
+		try {
+			globalDelta.add(ApiComparator.compare(referenceComponent, component, referenceComponent == null ? null : referenceComponent.getBaseline(), component.getBaseline(), this.visibilityModifiers, parallel, null));
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
 		if (referenceComponent != null) {
 			String versionString = referenceComponent.getVersion();
 			String versionString2 = component.getVersion();
@@ -119,15 +178,16 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
+		final List<IDelta> leaves = new ArrayList<>();
 		globalDelta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
-					CompareApiScopeVisitor.this.deltas.add(localDelta);
+					leaves.add(localDelta);
 				}
 			}
 		});
-		return false;
+		return leaves;
 	}
 
 	@Override
@@ -137,6 +197,7 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	}
 
 	void compareApiTypeRoot(IApiTypeRoot root) throws CoreException {
+		joinPending();
 		IApiComponent apiComponent = root.getApiComponent();
 		if (apiComponent == null || apiComponent.isSystemComponent() || apiComponent.isSourceComponent()) {
 			return;
@@ -18,11 +18,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -118,11 +122,95 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * {@link IApiSearchReporter} that collects the results reported for one
+	 * scope element so they can be handed to the real reporter later, in the
+	 * same order a sequential search would have reported them.
+	 */
+	static class ResultCollector implements IApiSearchReporter {
+		private final List<IApiElement> fElements = new ArrayList<>();
+		private final List<IReference[]> fReferences = new ArrayList<>();
+
+		@Override
+		public void reportResults(IApiElement element, IReference[] references) {
+			fElements.add(element);
+			fReferences.add(references);
+		}
+
+		@Override
+		public void reportNotSearched(IApiElement[] elements) {
+			// not collected, only reported by clients of the engine
+		}
+
+		@Override
+		public void reportMetadata(IMetadata data) {
+			// not collected, only reported by clients of the engine
+		}
+
+		@Override
+		public void reportCounts() {
+			// not collected, only reported by clients of the engine
+		}
+
+		/**
+		 * Hands all collected results to the given reporter in the order they
+		 * were collected
+		 */
+		void replay(IApiSearchReporter reporter) {
+			for (int i = 0; i < fElements.size(); i++) {
+				reporter.reportResults(fElements.get(i), fReferences.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Monitor handed to parallel search tasks, only forwarding cancellation of
+	 * the monitor the search was started with
+	 */
+	static class CancelMonitor extends NullProgressMonitor {
+		private final IProgressMonitor fParent;
+
+		CancelMonitor(IProgressMonitor parent) {
+			fParent = parent;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fParent.isCanceled();
+		}
+	}
+
 	/**
 	 * Simple string used for reporting what is being searched
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * The number of scope elements to search concurrently, <code>1</code> for
+	 * a sequential search
+	 */
+	private int fParallelism = 1;
+
+	/**
+	 * Sets the number of scope elements that are searched concurrently. A value
+	 * of <code>1</code> or less searches sequentially, which is the default.
+	 * <p>
+	 * When searching in parallel, scope elements are searched in separate
+	 * worker threads, so the {@link IApiSearchRequestor} must be safe to use
+	 * from several threads at once, as long as all calls for one component
+	 * happen on the same thread. The {@link IApiSearchReporter} is only called
+	 * from the thread running the search, with the results of each scope
+	 * element in scope order, so the report is the same as the one of a
+	 * sequential search.
+	 * </p>
+	 *
+	 * @param parallelism the number of worker threads to use
+	 * @since 1.3
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism = Math.max(1, parallelism);
+	}
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -247,6 +335,26 @@ public final class ApiSearchEngine {
 		IApiElement[] scopeelements = scope.getApiElements();
 		SubMonitor localmonitor = SubMonitor.convert(monitor, MessageFormat.format(SearchMessages.ApiSearchEngine_searching_projects, fRequestorContext), scopeelements.length * 2 + 1);
 		long start = System.currentTimeMillis();
+		MultiStatus mstatus;
+		if (fParallelism > 1 && scopeelements.length > 1) {
+			mstatus = searchInParallel(requestor, scopeelements, reporter, localmonitor);
+		} else {
+			mstatus = searchSequentially(requestor, scopeelements, reporter, localmonitor);
+		}
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		}
+		if (mstatus != null) {
+			throw new CoreException(mstatus);
+		}
+	}
+
+	/**
+	 * Searches the given scope elements one after the other
+	 *
+	 * @return the status of any failed searches or <code>null</code>
+	 */
+	private MultiStatus searchSequentially(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
@@ -263,7 +371,7 @@ public final class ApiSearchEngine {
 				localmonitor.setTaskName(taskname);
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
+					return null;
 				}
 				localmonitor.worked(1);
 				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -271,18 +379,69 @@ public final class ApiSearchEngine {
 							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
 				}
 			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
-				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
+				mstatus = addError(mstatus, ce);
 			}
 		}
-		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		return mstatus;
+	}
+
+	/**
+	 * Searches the given scope elements concurrently. The results of each
+	 * element are collected by its worker and reported from this thread in
+	 * scope order once all preceding elements have been reported.
+	 *
+	 * @return the status of any failed searches or <code>null</code>
+	 */
+	private MultiStatus searchInParallel(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
+		MultiStatus mstatus = null;
+		ForkJoinPool pool = new ForkJoinPool(fParallelism);
+		try {
+			List<ForkJoinTask<ResultCollector>> tasks = new ArrayList<>(scopeelements.length);
+			for (IApiElement element : scopeelements) {
+				tasks.add(pool.submit(() -> {
+					ResultCollector collector = new ResultCollector();
+					searchReferences(requestor, element, collector, new CancelMonitor(localmonitor));
+					return collector;
+				}));
+			}
+			for (int i = 0; i < scopeelements.length; i++) {
+				String name = scopeelements[i].getApiComponent().getSymbolicName();
+				localmonitor.setTaskName(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project, name, fRequestorContext));
+				try {
+					tasks.get(i).get().replay(reporter);
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException ce) {
+						mstatus = addError(mstatus, ce);
+					} else {
+						mstatus = addError(mstatus, new CoreException(Status.error(String.valueOf(cause.getMessage()), cause)));
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					localmonitor.setCanceled(true);
+				}
+				if (localmonitor.isCanceled()) {
+					reporter.reportResults(scopeelements[i], NO_REFERENCES);
+					return null;
+				}
+				localmonitor.worked(2);
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println("Searched " + name + ", " //$NON-NLS-1$ //$NON-NLS-2$
+							+ Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done"); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			pool.shutdownNow();
 		}
-		if (mstatus != null) {
-			throw new CoreException(mstatus);
+		return mstatus;
+	}
+
+	private static MultiStatus addError(MultiStatus mstatus, CoreException ce) {
+		if (mstatus == null) {
+			mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
 		}
+		mstatus.add(Status.error(ce.getMessage(), ce));
+		return mstatus;
 	}
 
 	/**
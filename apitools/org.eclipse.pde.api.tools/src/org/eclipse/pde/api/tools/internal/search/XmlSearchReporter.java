@@ -40,7 +40,11 @@ import org.w3c.dom.Element;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Search reporter that outputs results to an XML file
+ * Search reporter that outputs results to an XML file.
+ * <p>
+ * The reporter is thread safe: reports are written and counted one at a time,
+ * as reports for the same referenced component are merged into the same files.
+ * </p>
  *
  * @since 1.0.1
  */
@@ -73,7 +77,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportResults(IApiElement element, final IReference[] references) {
+	public synchronized void reportResults(IApiElement element, final IReference[] references) {
 		if (references.length == 0) {
 			// This reporter does not create xml for components with no
 			// references
@@ -174,7 +178,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportCounts() {
+	public synchronized void reportCounts() {
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,6 +67,11 @@ public class APIFreezeTask extends CommonUtilsTask {
 	 */
 	private final Map<String, ResolverError[]> resolverErrors = new HashMap<>();
 
+	/**
+	 * The number of components to compare concurrently
+	 */
+	private int threads = 1;
+
 	@Override
 	public void execute() throws BuildException {
 		if (this.referenceBaselineLocation == null || this.currentBaselineLocation == null || this.reportLocation == null) {
@@ -140,7 +145,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, null);
+			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, this.threads, null);
 		} catch (CoreException e) {
 			// ignore
 		} finally {
@@ -376,6 +381,22 @@ public class APIFreezeTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of components to compare concurrently.
+	 * <p>
+	 * The value must be a positive integer. The generated report is the same
+	 * whatever number of threads is used.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the number of threads used to compare components
+	 */
+	public void setThreads(String threads) {
+		this.threads = parseThreads(threads);
+	}
+
 	/**
 	 * Modifies the given doc to add a new element under the root element that
 	 * lists all the components that had resolver errors which could affect the
@@ -39,6 +39,7 @@ import org.eclipse.pde.api.tools.internal.AntFilterStore;
 import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
 import org.eclipse.pde.api.tools.internal.builder.BaseApiAnalyzer;
 import org.eclipse.pde.api.tools.internal.builder.BuildContext;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -322,17 +323,23 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		if (this.debug) {
 			time = System.currentTimeMillis();
 		}
-		File referenceInstallDir = extractSDK(REFERENCE, this.referenceBaselineLocation);
+		boolean referenceSnapshot = ApiBaselineSnapshot.isSnapshot(new File(this.referenceBaselineLocation));
+		boolean currentSnapshot = ApiBaselineSnapshot.isSnapshot(new File(this.currentBaselineLocation));
+		File referenceInstallDir = referenceSnapshot ? null : extractSDK(REFERENCE, this.referenceBaselineLocation);
 
-		File baselineInstallDir = extractSDK(CURRENT, this.currentBaselineLocation);
+		File baselineInstallDir = currentSnapshot ? null : extractSDK(CURRENT, this.currentBaselineLocation);
 		if (this.debug) {
 			System.out.println("Preparation of baseline installation : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
 			time = System.currentTimeMillis();
 		}
 		// run the comparison
 		// create baseline for the reference
-		IApiBaseline referenceBaseline = createBaseline(REFERENCE_BASELINE_NAME, referenceInstallDir.getAbsolutePath(), this.eeFileLocation);
-		IApiBaseline currentBaseline = createBaseline(CURRENT_BASELINE_NAME, baselineInstallDir.getAbsolutePath(), this.eeFileLocation);
+		IApiBaseline referenceBaseline = referenceSnapshot
+				? createBaselineFromSnapshot(REFERENCE_BASELINE_NAME, this.referenceBaselineLocation, this.eeFileLocation)
+				: createBaseline(REFERENCE_BASELINE_NAME, referenceInstallDir.getAbsolutePath(), this.eeFileLocation);
+		IApiBaseline currentBaseline = currentSnapshot
+				? createBaselineFromSnapshot(CURRENT_BASELINE_NAME, this.currentBaselineLocation, this.eeFileLocation)
+				: createBaseline(CURRENT_BASELINE_NAME, baselineInstallDir.getAbsolutePath(), this.eeFileLocation);
 
 		if (this.excludeListLocation != null) {
 			this.excludedElements = CommonUtilsTask.initializeFilteredElements(this.excludeListLocation, currentBaseline, this.debug);
@@ -812,6 +819,11 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 * corresponds to the Eclipse installation folder. This is the directory is
 	 * which you can find the Eclipse executable.
 	 * </p>
+	 * <p>
+	 * It can also be a binary baseline snapshot (<code>.api_snapshot</code>
+	 * file) as written by the API baseline manager, in which case the bundles
+	 * are not re-scanned.
+	 * </p>
 	 *
 	 * @param baselineLocation the given location for the baseline to analyze
 	 */
@@ -828,6 +840,11 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 * which you can find the Eclipse executable.
 	 * </p>
 	 * <p>
+	 * It can also be a binary baseline snapshot (<code>.api_snapshot</code>
+	 * file) as written by the API baseline manager, in which case the bundles
+	 * are not re-scanned.
+	 * </p>
+	 * <p>
 	 * The location is set using an absolute path.
 	 * </p>
 	 *
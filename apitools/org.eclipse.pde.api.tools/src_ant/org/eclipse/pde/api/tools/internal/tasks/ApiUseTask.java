@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -113,6 +113,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private FilteredElements includedElements = null;
 
+	/**
+	 * The number of components to search concurrently
+	 */
+	private int threads = 1;
+
 	/**
 	 * Root directory of api_filters files to apply
 	 */
@@ -305,6 +310,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
 			ApiSearchEngine engine = new ApiSearchEngine();
+			engine.setParallelism(this.threads);
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
 			requestor.setFilterRoot(filters);
@@ -626,4 +632,20 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Set the number of components to search concurrently.
+	 * <p>
+	 * The value must be a positive integer. The generated reports are the same
+	 * whatever number of threads is used.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the number of threads used to search components
+	 */
+	public void setThreads(String threads) {
+		this.threads = parseThreads(threads);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Task;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineSnapshot;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -92,6 +93,20 @@ public abstract class CommonUtilsTask extends Task {
 		}
 	}
 
+	/**
+	 * Creates a baseline with the given name from the binary baseline snapshot
+	 * at the given location
+	 *
+	 * @see ApiBaselineSnapshot
+	 */
+	protected IApiBaseline createBaselineFromSnapshot(String baselineName, String snapshotLocation, String eeFileLocation) {
+		try {
+			return ApiBaselineSnapshot.newApiBaseline(baselineName, Path.of(snapshotLocation), eeFileLocation != null ? new File(eeFileLocation) : null);
+		} catch (CoreException e) {
+			throw new BuildException(e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * Deletes an {@link IApiBaseline} from the given folder
 	 */
@@ -204,6 +219,26 @@ public abstract class CommonUtilsTask extends Task {
 		return list.toArray(new String[list.size()]);
 	}
 
+	/**
+	 * Parses the number of threads to use for a task.
+	 *
+	 * @param threads the number of threads as a string
+	 * @return the number of threads to use
+	 * @throws BuildException if the value is not a positive integer
+	 */
+	protected static int parseThreads(String threads) throws BuildException {
+		int value;
+		try {
+			value = Integer.parseInt(threads);
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_threads, threads));
+		}
+		if (value < 1) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_threads, threads));
+		}
+		return value;
+	}
+
 	public static String convertToHtml(String s) {
 		char[] contents = s.toCharArray();
 		StringBuilder buffer = new StringBuilder();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -27,6 +27,8 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -2452,4 +2454,52 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	// Test that generating the plug-in scripts concurrently gives the same
+	// scripts as generating them sequentially
+	@Test
+	public void testConcurrentScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("ConcurrentScriptGeneration");
+		IFolder sequential = Utils.createFolder(buildFolder, "sequential");
+		IFolder concurrent = Utils.createFolder(buildFolder, "concurrent");
+		String[] bundles = { "A", "B", "C", "D", "E" };
+		for (IFolder folder : new IFolder[] { sequential, concurrent }) {
+			generateChainedBundles(folder, bundles);
+			Utils.generateFeature(folder, "F", null, bundles);
+		}
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(sequential, "feature", "F");
+		properties.put("baseLocation", " ");
+		properties.put(IBuildPropertiesConstants.PROPERTY_SCRIPT_GENERATION_THREADS, "1");
+		generateScripts(sequential, properties);
+
+		properties = BuildConfiguration.getScriptGenerationProperties(concurrent, "feature", "F");
+		properties.put("baseLocation", " ");
+		properties.put(IBuildPropertiesConstants.PROPERTY_SCRIPT_GENERATION_THREADS, "4");
+		generateScripts(concurrent, properties);
+
+		String sequentialLocation = sequential.getLocation().toOSString();
+		String concurrentLocation = concurrent.getLocation().toOSString();
+		for (String bundle : bundles) {
+			String expected = Files.readString(sequential.getFile("plugins/" + bundle + "/build.xml").getLocation().toFile().toPath());
+			String actual = Files.readString(concurrent.getFile("plugins/" + bundle + "/build.xml").getLocation().toFile().toPath());
+			assertEquals(bundle, expected.replace(sequentialLocation, "${buildDirectory}"), actual.replace(concurrentLocation, "${buildDirectory}"));
+		}
+	}
+
+	// Generates bundles each requiring all the previous ones
+	private static void generateChainedBundles(IFolder buildFolder, String[] bundles) throws Exception {
+		for (int i = 0; i < bundles.length; i++) {
+			IFolder folder = Utils.createFolder(buildFolder, "plugins/" + bundles[i]);
+			String pkg = bundles[i].toLowerCase();
+			Attributes additional = new Attributes();
+			additional.put(new Attributes.Name("Export-Package"), pkg);
+			if (i > 0)
+				additional.put(new Attributes.Name("Require-Bundle"), String.join(",", Arrays.copyOf(bundles, i)));
+			Utils.generateBundleManifest(folder, bundles[i], "1.0.0", additional);
+			Utils.generatePluginBuildProperties(folder, null);
+			Utils.writeBuffer(folder.getFile("src/" + pkg + "/" + bundles[i] + ".java"),
+					new StringBuffer("package " + pkg + "; public class " + bundles[i] + " { }"));
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -32,12 +37,14 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.Config;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.SourceFeatureInformation;
 import org.eclipse.pde.internal.build.Utils;
 import org.eclipse.pde.internal.build.builder.ClasspathComputer3_0.ClasspathElement;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
+import org.eclipse.pde.internal.build.site.PDEState;
 import org.osgi.framework.Version;
 
 /**
@@ -100,7 +107,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null)
 			return element.getPath();
 
@@ -520,6 +527,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		if (binaryFeature == false || models.isEmpty())
 			return;
 
+		int threads = getIntProperty(AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_SCRIPT_GENERATION_THREADS), 1);
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
@@ -532,7 +541,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty())
-				return;
+				break;
 
 			@SuppressWarnings("rawtypes")
 			Iterator entryIter = matchingEntries.iterator();
@@ -553,9 +562,61 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			if (threads == 1) {
+				generator.generate();
+				continue;
+			}
+			//A script is generated with the elements compiled up to its bundle in build order, as
+			//when generating sequentially, and not with the ones configured afterwards
+			generator.setCompiledElements(new HashSet<>(getCompiledElements()));
+			generators.add(generator);
 		}
+		if (!generators.isEmpty())
+			generateScripts(generators, threads);
+
+		if (BundleHelper.getDefault().isDebugging()) {
+			PDEState state = getSite(false).getRegistry();
+			System.out.println("Visible packages of " + state.getVisiblePackagesMisses() + " bundles computed, " + state.getVisiblePackagesHits() + " reused"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
 
+	/**
+	 * Generates the scripts of the given configured generators on the given
+	 * number of threads, as requested by the <code>scriptGenerationThreads</code>
+	 * property. Each generator only writes the script of its own bundle and
+	 * only reads the resolved state.
+	 */
+	private void generateScripts(List<ModelBuildScriptGenerator> generators, int threads) throws CoreException {
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, generators.size()));
+		try {
+			List<Future<Void>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					generator.generate();
+					return null;
+				}));
+			}
+			//Report the failure of the first bundle in build order, as the sequential generation does
+			for (Future<Void> result : results) {
+				try {
+					result.get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException coreException)
+						throw coreException;
+					if (cause instanceof RuntimeException runtimeException)
+						throw runtimeException;
+					if (cause instanceof Error error)
+						throw error;
+					throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_GENERIC, cause.getMessage(), cause));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_GENERIC, e.getMessage(), e));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -207,15 +207,28 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	}
 
 	private Map<String, String> getVisiblePackages(BundleDescription model) {
+		PDEState state = generator.getSite(false).getRegistry();
+		Map<String, String> packages = state.getVisiblePackages(model, ClasspathComputer3_0::computeVisiblePackages);
+		if (model.getHost() == null)
+			return packages;
+
+		//Merge the packages visible to the host
+		Map<String, String> hostPackages = state.getVisiblePackages((BundleDescription) model.getHost().getSupplier(), ClasspathComputer3_0::computeVisiblePackages);
+		Map<String, String> result = new HashMap<>(packages);
+		for (Map.Entry<String, String> entry : hostPackages.entrySet()) {
+			for (String rule : Utils.getArrayFromString(entry.getValue(), File.pathSeparator))
+				addRule(result, entry.getKey(), rule);
+		}
+		return result;
+	}
+
+	private static Map<String, String> computeVisiblePackages(BundleDescription model) {
 		Map<String, String> packages = new HashMap<>(20);
-		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, model, packages);
-		if (model.getHost() != null)
-			addVisiblePackagesFromState(helper, (BundleDescription) model.getHost().getSupplier(), packages);
+		addVisiblePackagesFromState(BundleHelper.getPlatformAdmin().getStateHelper(), model, packages);
 		return packages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription model, Map<String, String> packages) {
+	private static void addVisiblePackagesFromState(StateHelper helper, BundleDescription model, Map<String, String> packages) {
 		ExportPackageDescription[] exports = helper.getVisiblePackages(model);
 		for (ExportPackageDescription export : exports) {
 			BundleDescription exporter = export.getExporter();
@@ -227,16 +240,20 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 			String rule = (discouraged ? '~' : '+') + pattern;
 
 			String packagesKey = exporter.getSymbolicName() + "_" + exporter.getVersion(); //$NON-NLS-1$
-			String rules = packages.get(packagesKey);
-			if (rules != null) {
-				if (rules.indexOf(rule) == -1)
-					rules = rules + File.pathSeparator + rule;
-			} else {
-				rules = rule;
-			}
+			addRule(packages, packagesKey, rule);
+		}
+	}
 
-			packages.put(packagesKey, rules);
+	private static void addRule(Map<String, String> packages, String packagesKey, String rule) {
+		String rules = packages.get(packagesKey);
+		if (rules != null) {
+			if (rules.indexOf(rule) == -1)
+				rules = rules + File.pathSeparator + rule;
+		} else {
+			rules = rule;
 		}
+
+		packages.put(packagesKey, rules);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2018 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.ant.core.IAntPropertyValueProvider;
 import org.eclipse.core.runtime.FileLocator;
@@ -37,7 +37,7 @@ public class PDEProperties implements IAntPropertyValueProvider {
 	static private final String HOME = PREFIX + ".home"; //$NON-NLS-1$
 	static private final String SCRIPTS = PREFIX + ".scripts"; //$NON-NLS-1$
 	static private final String TEMPLATES = PREFIX + ".templates"; //$NON-NLS-1$
-	static private final Map<String, String> cache = new HashMap<>();
+	static private final Map<String, String> cache = new ConcurrentHashMap<>();
 
 	@Override
 	public String getAntPropertyValue(String antPropertyName) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Dictionary;
 import java.util.Enumeration;
@@ -33,6 +34,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
@@ -89,6 +93,14 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private final Set<Dictionary<String, String>> convertedManifests;
 	private long lastSortingDate = 0L;
 	private String[] eeSources;
+	// access rules of the packages visible to a bundle, by exporter, see getVisiblePackages
+	private final Map<BundleDescription, Map<String, String>> visiblePackages = new ConcurrentHashMap<>();
+	private final AtomicInteger visiblePackagesHits = new AtomicInteger();
+	private final AtomicInteger visiblePackagesMisses = new AtomicInteger();
+
+	//A bundle whose manifest has been read and enhanced, ready to be added to the state
+	private record LoadedBundle(File location, Dictionary<String, String> manifest, String oldVersion) {
+	}
 
 	protected long getNextId() {
 		return ++id;
@@ -133,6 +145,11 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	//Add a bundle to the state, updating the version number 
 	public boolean addBundle(Dictionary<String, String> enhancedManifest, File bundleLocation) {
 		String oldVersion = updateVersionNumber(enhancedManifest);
+		return addBundle(enhancedManifest, bundleLocation, oldVersion);
+	}
+
+	//Add a bundle whose version number has already been updated to the state
+	private boolean addBundle(Dictionary<String, String> enhancedManifest, File bundleLocation, String oldVersion) {
 		try {
 			BundleDescription descriptor;
 			descriptor = factory.createBundleDescription(state, enhancedManifest, bundleLocation.getAbsolutePath(), getNextId());
@@ -266,18 +283,25 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	private boolean addFlexibleRoot(File bundleLocation) {
+		File root = getFlexibleRoot(bundleLocation);
+		if (root != null)
+			return addBundle(root);
+		return false;
+	}
+
+	private File getFlexibleRoot(File bundleLocation) {
 		if (!new File(bundleLocation, PDE_CORE_PREFS).exists())
-			return false;
+			return null;
 
 		try {
 			Properties properties = AbstractScriptGenerator.readProperties(bundleLocation.getAbsolutePath(), PDE_CORE_PREFS, IStatus.OK);
 			String root = properties.getProperty(BUNDLE_ROOT_PATH);
 			if (root != null)
-				return addBundle(new File(bundleLocation, root));
+				return new File(bundleLocation, root);
 		} catch (CoreException e) {
 			//ignore
 		}
-		return false;
+		return null;
 	}
 
 	private String updateVersionNumber(Dictionary<String, String> manifest) {
@@ -380,12 +404,33 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		//Read and enhance the manifests in parallel, but add the bundles in the given order so that
+		//the bundle ids and the data recorded for them are the same as when adding them one by one
+		List<LoadedBundle> loadedBundles = bundles.parallelStream().map(this::loadBundle).toList();
+		for (LoadedBundle loaded : loadedBundles) {
+			if (loaded != null)
+				addBundle(loaded.manifest(), loaded.location(), loaded.oldVersion());
 		}
 	}
 
+	//Read the enhanced manifest of a bundle as addBundle(File) does, without adding it to the state
+	private LoadedBundle loadBundle(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
+		if (manifest == null) {
+			File root = getFlexibleRoot(bundleLocation);
+			return root != null ? loadBundle(root) : null;
+		}
+		try {
+			hasQualifier(bundleLocation, manifest);
+		} catch (BundleException e) {
+			//should not happen since we know the header
+		}
+		String oldVersion = updateVersionNumber(manifest);
+		return new LoadedBundle(bundleLocation, manifest, oldVersion);
+	}
+
 	public void resolveState() {
+		visiblePackages.clear();
 		List<Config> configs = AbstractScriptGenerator.getConfigInfos();
 		ArrayList<Dictionary<String, Object>> properties = new ArrayList<>(); //Collection of dictionaries
 		Dictionary<String, Object> prop;
@@ -806,6 +851,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void cleanupOriginalState() {
+		visiblePackages.clear();
 		if (addedBundle == null && unqualifiedBundles == null)
 			return;
 
@@ -879,7 +925,43 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		this.eeSources = eeSources;
 	}
 
-	public ProfileManager getProfileManager() {
+	/**
+	 * Returns the access rules of the packages visible to the given bundle,
+	 * keyed by the normalized name of their exporter. The rules are computed
+	 * with the given function once per resolution of this state and shared
+	 * by the classpath computations of all bundles of the build.
+	 * 
+	 * @param bundle the bundle
+	 * @param computer computes the access rules if they are not cached
+	 * @return the cached access rules, not to be modified
+	 */
+	public Map<String, String> getVisiblePackages(BundleDescription bundle, Function<BundleDescription, Map<String, String>> computer) {
+		Map<String, String> packages = visiblePackages.get(bundle);
+		if (packages != null) {
+			visiblePackagesHits.incrementAndGet();
+			return packages;
+		}
+		visiblePackagesMisses.incrementAndGet();
+		packages = Collections.unmodifiableMap(computer.apply(bundle));
+		Map<String, String> existing = visiblePackages.putIfAbsent(bundle, packages);
+		return existing != null ? existing : packages;
+	}
+
+	/**
+	 * @return the number of lookups of visible packages that were answered from the cache
+	 */
+	public int getVisiblePackagesHits() {
+		return visiblePackagesHits.get();
+	}
+
+	/**
+	 * @return the number of lookups of visible packages that had to be computed
+	 */
+	public int getVisiblePackagesMisses() {
+		return visiblePackagesMisses.get();
+	}
+
+	public synchronized ProfileManager getProfileManager() {
 		if (profileManager == null) {
 			profileManager = new ProfileManager(eeSources, true);
 		}
@@ -38,6 +38,7 @@ import org.osgi.framework.Bundle;
 	FullComponentTest.class,
 	ExtendedReferenceMethodComponentTest.class,
 	ExtendedLifeCycleMethodComponentTest.class,
+	MayContainComponentTest.class,
 })
 public class AllDSAnnotationsTests {
 
@@ -0,0 +1,75 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
+import org.junit.Test;
+
+public class MayContainComponentTest {
+
+	@Test
+	public void testSimpleName() {
+		assertTrue(mayContainComponent("""
+				import org.osgi.service.component.annotations.Component;
+
+				@Component
+				public class Test {
+				}
+				"""));
+	}
+
+	@Test
+	public void testQualifiedName() {
+		assertTrue(mayContainComponent("""
+				@org.osgi.service.component.annotations.Component(service = Runnable.class)
+				public class Test implements Runnable {
+					public void run() {
+					}
+				}
+				"""));
+	}
+
+	@Test
+	public void testWildcardImport() {
+		assertTrue(mayContainComponent("""
+				import org.osgi.service.component.annotations.*;
+
+				@Component(immediate = true)
+				public class Test {
+				}
+				"""));
+	}
+
+	@Test
+	public void testUnicodeEscapes() {
+		assertTrue(mayContainComponent("""
+				import org.osgi.service.component.annotations.*;
+
+				@\\u0043omponent
+				public class Test {
+				}
+				"""));
+	}
+
+	@Test
+	public void testNoComponent() {
+		assertFalse(mayContainComponent("""
+				import java.util.List;
+
+				public class Test {
+					List<String> names;
+				}
+				"""));
+	}
+
+	@Test
+	public void testNoContents() {
+		assertTrue(DSAnnotationCompilationParticipant.mayContainComponent(null));
+		assertTrue(DSAnnotationCompilationParticipant.mayContainComponent(new char[0]));
+	}
+
+	private static boolean mayContainComponent(String source) {
+		return DSAnnotationCompilationParticipant.mayContainComponent(source.toCharArray());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Ecliptical Software Inc. and others.
+ * Copyright (c) 2017, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,7 @@ package org.eclipse.pde.ds.internal.annotations;
 import static java.util.Map.entry;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -428,6 +424,11 @@ public class AnnotationVisitor extends ASTVisitor {
 				}
 
 				String text = dsModel.getContents();
+				if (text.equals(document.get())) {
+					// generated content is unchanged; don't touch the file
+					return new TextEdit[0];
+				}
+
 				ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
 				return new TextEdit[] { edit };
 			}
@@ -1747,7 +1748,9 @@ public class AnnotationVisitor extends ASTVisitor {
 			return;
 		}
 
-		// workaround for PDE's busted DocumentObject.clone() method
+		// note: DocumentObject.moveChildNode() would re-insert a serialized clone of the node
+		// to get an insert edit from XMLTextChangeListener; since we replace the entire
+		// document content anyway, the node itself can simply be moved to its new position
 		int currentIndex = obj.indexOf(node);
 		if (currentIndex == -1) {
 			return;
@@ -1759,37 +1762,7 @@ public class AnnotationVisitor extends ASTVisitor {
 		}
 
 		obj.removeChildNode(node, fireEvent);
-		IDocumentElementNode clone = clone(obj, node);
-		obj.addChildNode(clone, newIndex, fireEvent);
-	}
-
-	private IDocumentElementNode clone(IDocumentObject obj, IDocumentElementNode node) {
-		// note: same exact impl as DocumentObject.clone()
-		// but here the deserialized object will actually resolve successfully
-		// because our classloader (with DSPropery visible) will be on top of the stack
-		// yay for Java serialization, *sigh*
-		IDocumentElementNode clone = null;
-		try (ByteArrayOutputStream bout = new ByteArrayOutputStream()) {
-			// Serialize
-			try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
-				out.writeObject(node);
-				out.flush();
-			}
-			byte[] bytes = bout.toByteArray();
-			// Deserialize
-			try (ByteArrayInputStream bin = new ByteArrayInputStream(bytes);
-					ObjectInputStream in = new ObjectInputStream(bin)) {
-				clone = (IDocumentElementNode) in.readObject();
-			}
-			// Reconnect
-			clone.reconnect(obj, obj.getSharedModel());
-		} catch (IOException | ClassNotFoundException e) {
-			if (debug.isDebugging()) {
-				debug.trace("Error cloning element.", e); //$NON-NLS-1$
-			}
-		}
-
-		return clone;
+		obj.addChildNode(node, newIndex, fireEvent);
 	}
 
 	private int indexOfLastPropertyOrProperties(IDSComponent component) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2021 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -96,6 +97,10 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final IPath COMPONENT_ANNOTATION_PATH = IPath.fromOSString(COMPONENT_ANNOTATION.replace('.',  '/'));
 
+	private static final char[] COMPONENT_ANNOTATION_NAME = "Component".toCharArray(); //$NON-NLS-1$
+
+	private static final char[] UNICODE_ESCAPE = "\\u".toCharArray(); //$NON-NLS-1$
+
 	private static final Pattern ACCESS_RULE_PATTERN = Pattern.compile("(\\*\\*)|\\*|\\?"); //$NON-NLS-1$
 
 	private static final QualifiedName PROP_STATE = new QualifiedName(Activator.PLUGIN_ID, "state"); //$NON-NLS-1$
@@ -630,6 +635,16 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
+			if (!mayContainComponent(file.getContents())) {
+				// only CUs that carried components before need their mappings updated;
+				// all others can be skipped without consulting the Java model
+				if (isIndexed(cu)) {
+					markAsAbandoned(cu);
+				}
+
+				continue;
+			}
+
 			if (canSkipFile(cu)) {
 				markAsAbandoned(cu);
 				continue;
@@ -654,6 +669,38 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Returns whether the given source may declare a component, i.e. whether it
+	 * mentions the (simple) name of the component annotation at all. This is
+	 * a conservative text check that avoids building the Java model of the
+	 * majority of compilation units that are not components. Sources with
+	 * Unicode escapes may spell the name differently and are not skipped.
+	 */
+	public static boolean mayContainComponent(char[] contents) {
+		if (contents == null || contents.length == 0) {
+			// contents not available; let the Java model decide
+			return true;
+		}
+
+		return CharOperation.indexOf(COMPONENT_ANNOTATION_NAME, contents, true) != -1
+				|| CharOperation.indexOf(UNICODE_ESCAPE, contents, true) != -1;
+	}
+
+	/**
+	 * Returns whether the given compilation unit is in the component index of
+	 * its project, i.e. whether DS files were generated from it in a previous
+	 * build.
+	 */
+	private boolean isIndexed(ICompilationUnit cu) {
+		ProjectContext projectContext = processingContext.get(cu.getJavaProject());
+		if (projectContext == null) {
+			return true;
+		}
+
+		String cuKey = AnnotationProcessor.getCompilationUnitKey(cu);
+		return projectContext.getState().getModelFiles(cuKey) != null;
+	}
+
 	public boolean canSkipFile(ICompilationUnit cu) {
 		IType primaryType = cu.findPrimaryType();
 		if (primaryType == null) {
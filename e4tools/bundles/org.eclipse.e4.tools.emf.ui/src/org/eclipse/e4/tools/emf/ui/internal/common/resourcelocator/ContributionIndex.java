@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+
+/**
+ * Index of the entries found by a {@link TargetPlatformContributionCollector}.
+ * <p>
+ * Entries are added while the target platform is scanned and can be searched
+ * before the scan completes. Entries are only ever appended, so a search sees
+ * the entries added up to that point, in the order they were found.
+ * </p>
+ * <p>
+ * The distinct simple names are numbered as they are found, so a name pattern
+ * is matched once per name rather than once per entry.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+final class ContributionIndex {
+
+	/**
+	 * An index nothing is added to
+	 */
+	static final ContributionIndex EMPTY = new ContributionIndex();
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	private Entry[] entries = new Entry[INITIAL_CAPACITY];
+	private int[] entryNames = new int[INITIAL_CAPACITY];
+	private int entryCount;
+	private String[] names = new String[INITIAL_CAPACITY];
+	private int nameCount;
+	private final Map<String, Integer> nameIds = new HashMap<>();
+	private final Set<String> bundleIds = new HashSet<>();
+	private final Set<String> packages = new HashSet<>();
+	private final Set<String> locations = new HashSet<>();
+
+	/**
+	 * The entries of an index whose simple name matches a pattern, as of the
+	 * time of the search. Callers may keep it to narrow the search of a
+	 * refined pattern, see {@link ContributionIndex#find(String, Matches)}.
+	 */
+	static final class Matches implements Iterable<Entry> {
+
+		private final ContributionIndex index;
+		private final String pattern;
+		private final Entry[] entries;
+		private final int[] entryNames;
+		private final int entryCount;
+		private final int nameCount;
+		private final BitSet names;
+
+		private Matches(ContributionIndex index, String pattern, Entry[] entries, int[] entryNames, int entryCount,
+				int nameCount, BitSet names) {
+			this.index = index;
+			this.pattern = pattern;
+			this.entries = entries;
+			this.entryNames = entryNames;
+			this.entryCount = entryCount;
+			this.nameCount = nameCount;
+			this.names = names;
+		}
+
+		@Override
+		public Iterator<Entry> iterator() {
+			return new Iterator<>() {
+				int next = nextMatch(0);
+
+				@Override
+				public boolean hasNext() {
+					return next < entryCount;
+				}
+
+				@Override
+				public Entry next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					final Entry entry = entries[next];
+					next = nextMatch(next + 1);
+					return entry;
+				}
+			};
+		}
+
+		private int nextMatch(int from) {
+			int i = from;
+			while (i < entryCount && !names.get(entryNames[i])) {
+				i++;
+			}
+			return i;
+		}
+	}
+
+	synchronized void add(Entry entry) {
+		Integer name = nameIds.get(entry.name);
+		if (name == null) {
+			if (nameCount == names.length) {
+				names = Arrays.copyOf(names, nameCount * 2);
+			}
+			name = Integer.valueOf(nameCount);
+			names[nameCount++] = entry.name;
+			nameIds.put(entry.name, name);
+		}
+		// searches may still use the current arrays, so they are copied
+		// rather than modified below the current count
+		if (entryCount == entries.length) {
+			entries = Arrays.copyOf(entries, entryCount * 2);
+			entryNames = Arrays.copyOf(entryNames, entryCount * 2);
+		}
+		entries[entryCount] = entry;
+		entryNames[entryCount] = name.intValue();
+		entryCount++;
+		if (entry.bundleSymName != null) {
+			bundleIds.add(entry.bundleSymName);
+		}
+		packages.add(entry.pakage);
+		locations.add(entry.installLocation);
+	}
+
+	synchronized boolean isEmpty() {
+		return entryCount == 0;
+	}
+
+	synchronized Set<String> getBundleIds() {
+		return Set.copyOf(bundleIds);
+	}
+
+	synchronized Set<String> getPackages() {
+		return Set.copyOf(packages);
+	}
+
+	synchronized Set<String> getLocations() {
+		return Set.copyOf(locations);
+	}
+
+	/**
+	 * Returns the entries added so far whose simple name matches the given
+	 * pattern, as understood by
+	 * {@link PatternConstructor#createPattern(String, boolean)} (case
+	 * insensitive, <code>*</code> and <code>?</code> wildcards, matching
+	 * anywhere in the name). The entries are returned in the order they were
+	 * added.
+	 *
+	 * @param namePattern
+	 *            the name pattern, may be <code>null</code> to match all
+	 * @param previous
+	 *            the result of a previous search of this index, may be
+	 *            <code>null</code>. If the pattern refines the previous one by
+	 *            adding characters, only the names matched before and the
+	 *            names added since are searched.
+	 * @return the matching entries
+	 */
+	Matches find(String namePattern, Matches previous) {
+		final String pattern = namePattern == null ? "" : namePattern; //$NON-NLS-1$
+		final Entry[] currentEntries;
+		final int[] currentEntryNames;
+		final int currentEntryCount;
+		final String[] currentNames;
+		final int currentNameCount;
+		synchronized (this) {
+			currentEntries = entries;
+			currentEntryNames = entryNames;
+			currentEntryCount = entryCount;
+			currentNames = names;
+			currentNameCount = nameCount;
+		}
+		final Matcher matcher = PatternConstructor.createPattern(pattern, false).matcher(""); //$NON-NLS-1$
+		final BitSet matches = new BitSet(currentNameCount);
+		int name = 0;
+		if (previous != null && previous.index == this && isRefinement(previous.pattern, pattern)) {
+			for (int i = previous.names.nextSetBit(0); i >= 0; i = previous.names.nextSetBit(i + 1)) {
+				if (matcher.reset(currentNames[i]).find()) {
+					matches.set(i);
+				}
+			}
+			name = previous.nameCount;
+		}
+		for (; name < currentNameCount; name++) {
+			if (matcher.reset(currentNames[name]).find()) {
+				matches.set(name);
+			}
+		}
+		return new Matches(this, pattern, currentEntries, currentEntryNames, currentEntryCount, currentNameCount,
+				matches);
+	}
+
+	/**
+	 * A pattern without wildcards only matches names containing it, so all
+	 * names matching a longer pattern containing it have already been found.
+	 */
+	private static boolean isRefinement(String previous, String current) {
+		if (hasWildcards(previous) || hasWildcards(current)) {
+			return false;
+		}
+		return current.toLowerCase(Locale.ROOT).contains(previous.toLowerCase(Locale.ROOT));
+	}
+
+	private static boolean hasWildcards(String pattern) {
+		return pattern.indexOf('*') != -1 || pattern.indexOf('?') != -1 || pattern.indexOf('\\') != -1;
+	}
+}
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.ILog;
+
+/**
+ * Remembers which entries of a target platform jar a
+ * {@link TargetPlatformContributionCollector} indexes, so a jar that did not
+ * change since it was last listed is not opened again, even in a later
+ * session.
+ * <p>
+ * A listing is reused as long as the jar keeps its size and time stamp. The
+ * listings only hold the entries accepted by one filter; the store file
+ * records the key of that filter and is ignored for any other key.
+ * </p>
+ */
+final class JarEntryStore {
+
+	/**
+	 * First string of a store file, change it when the format changes
+	 */
+	private static final String HEADER = "e4tools.jarEntries.1"; //$NON-NLS-1$
+
+	/**
+	 * The accepted entries of a jar of the given size and time stamp
+	 */
+	private record Listing(long size, long timeStamp, List<String> entries) {
+
+		boolean isCurrent(File jar) {
+			return size == jar.length() && timeStamp == jar.lastModified();
+		}
+	}
+
+	private final Map<String, Listing> listings = new ConcurrentHashMap<>();
+	private final Path file;
+	private final String key;
+	private volatile boolean changed;
+
+	/**
+	 * @param file
+	 *            where the listings are kept between sessions,
+	 *            <code>null</code> for none
+	 * @param key
+	 *            names the filter the listings are made with
+	 */
+	JarEntryStore(File file, String key) {
+		this.file = file == null ? null : file.toPath();
+		this.key = key;
+		read();
+	}
+
+	/**
+	 * Lists the entries of a jar the given filter accepts, opening the jar
+	 * only if its last listing is outdated.
+	 *
+	 * @param jar
+	 *            the jar to list
+	 * @param filter
+	 *            the filter named by the key of this store
+	 * @return the accepted entries, unmodifiable
+	 * @throws IOException
+	 *             if the jar has to be opened and cannot be read
+	 */
+	List<String> getEntryNames(File jar, Predicate<String> filter) throws IOException {
+		final String path = jar.getAbsolutePath();
+		final Listing known = listings.get(path);
+		if (known != null && known.isCurrent(jar)) {
+			return known.entries();
+		}
+		final long size = jar.length();
+		final long timeStamp = jar.lastModified();
+		final List<String> accepted = new ArrayList<>();
+		try (ZipFile zip = new ZipFile(jar)) {
+			for (final Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+				final ZipEntry entry = e.nextElement();
+				if (!entry.isDirectory() && filter.test(entry.getName())) {
+					accepted.add(entry.getName());
+				}
+			}
+		}
+		final Listing listing = new Listing(size, timeStamp, List.copyOf(accepted));
+		listings.put(path, listing);
+		changed = true;
+		return listing.entries();
+	}
+
+	private void read() {
+		if (file == null || !Files.isRegularFile(file)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+			if (!HEADER.equals(in.readUTF()) || !key.equals(in.readUTF())) {
+				return;
+			}
+			for (int jars = in.readInt(); jars > 0; jars--) {
+				final String path = in.readUTF();
+				final long size = in.readLong();
+				final long timeStamp = in.readLong();
+				final String[] entries = new String[in.readInt()];
+				for (int i = 0; i < entries.length; i++) {
+					entries[i] = in.readUTF();
+				}
+				listings.put(path, new Listing(size, timeStamp, List.of(entries)));
+			}
+		} catch (final IOException e) {
+			// start over, the jars are listed again
+			listings.clear();
+		}
+	}
+
+	/**
+	 * Writes the listings of the jars that still exist, if any listing was
+	 * made since the last write. The file is replaced in one step, so it is
+	 * never left half written.
+	 */
+	void save() {
+		if (file == null || !changed) {
+			return;
+		}
+		changed = false;
+		listings.keySet().removeIf(path -> !new File(path).isFile());
+		try {
+			Files.createDirectories(file.getParent());
+			final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+					final Map<String, Listing> jars = Map.copyOf(listings);
+					out.writeUTF(HEADER);
+					out.writeUTF(key);
+					out.writeInt(jars.size());
+					for (final Map.Entry<String, Listing> jar : jars.entrySet()) {
+						out.writeUTF(jar.getKey());
+						out.writeLong(jar.getValue().size());
+						out.writeLong(jar.getValue().timeStamp());
+						out.writeInt(jar.getValue().entries().size());
+						for (final String entry : jar.getValue().entries()) {
+							out.writeUTF(entry);
+						}
+					}
+				}
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (final IOException e) {
+			changed = true;
+			ILog.of(JarEntryStore.class).error("Cannot write the jar entries to " + file, e); //$NON-NLS-1$
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,18 +23,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
@@ -46,6 +40,7 @@ import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -63,7 +58,6 @@ import org.eclipse.pde.core.plugin.IPluginBase;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
-import org.eclipse.pde.internal.core.util.PatternConstructor;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
 import org.eclipse.swt.events.SelectionEvent;
@@ -73,6 +67,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.FrameworkUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -87,10 +82,13 @@ import org.w3c.dom.NodeList;
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	/**
+	 * The entries found by the last indexing of the target platform, filled
+	 * while the indexing job runs
+	 */
+	private volatile ContributionIndex index = ContributionIndex.EMPTY;
+	private volatile Job indexJob;
+	private JarEntryStore jarEntryStore;
 	private Pattern patternFile;
 	protected String cacheName;
 	protected boolean stopFiltering;
@@ -115,11 +113,14 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 
 		addContributor(new IClassContributionProvider() {
 
+			/**
+			 * The result of the last search, to narrow the next one
+			 */
+			private volatile ContributionIndex.Matches lastMatches;
+
 			@Override
 			public void findContribution(Filter filter, ContributionResultHandler handler) {
 
-				final Pattern patternName = PatternConstructor.createPattern(filter.namePattern, false);
-
 				reloadCache(false, filter.getProviderStatusCallback());
 
 				int maxResults = filter.maxResults;
@@ -131,7 +132,9 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				boolean more = false;
 
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				final ContributionIndex.Matches matches = index.find(filter.namePattern, lastMatches);
+				lastMatches = matches;
+				for (final Entry e : matches) {
 					if (stopFiltering) {
 						break;
 					}
@@ -191,17 +194,13 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						}
 					}
 
-					final Matcher m = patternName.matcher(e.name);
-					if (m.find()) {
-						found++;
-						if (found > maxResults) {
-							more = true;
-							handler.moreResults(ContributionResultHandler.MORE_UNKNOWN, filter);
-							break;
-						}
-						handler.result(makeData(e));
+					found++;
+					if (found > maxResults) {
+						more = true;
+						handler.moreResults(ContributionResultHandler.MORE_UNKNOWN, filter);
+						break;
 					}
-
+					handler.result(makeData(e));
 				}
 				if (!more) {
 					if (stopFiltering) {
@@ -224,10 +223,15 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
-				cacheEntry.clear();
-				cacheBundleId.clear();
-				cachePackage.clear();
-				cacheLocation.clear();
+				// the running indexing only fills its own index, which is dropped,
+				// so the next search starts a new one. It is not joined as it
+				// reports its end in the UI thread this is called from.
+				final Job job = indexJob;
+				if (job != null) {
+					job.cancel();
+					indexJob = null;
+				}
+				index = ContributionIndex.EMPTY;
 				outputDirectories.clear();
 			}
 		});
@@ -253,7 +257,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getBundleIds() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheBundleId);
+		return new ArrayList<>(index.getBundleIds());
 	}
 
 	/**
@@ -262,7 +266,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getPackages() {
 		reloadCache(false, null);
-		return new ArrayList<>(cachePackage);
+		return new ArrayList<>(index.getPackages());
 	}
 
 	/**
@@ -271,7 +275,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getLocations() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheLocation);
+		return new ArrayList<>(index.getLocations());
 	}
 
 	/**
@@ -282,15 +286,19 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 *            true to force reload the cache
 	 */
 	private void reloadCache(boolean force, final IProviderStatusCallback providerStatusCallback) {
-		if (cacheEntry.isEmpty() || force) {
+		final boolean indexing = indexJob != null && indexJob.getState() != Job.NONE;
+		if ((index.isEmpty() && !indexing) || force) {
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
-			cacheEntry.clear();
-			cacheBundleId.clear();
-			cachePackage.clear();
-			cacheLocation.clear();
+			if (indexing) {
+				indexJob.cancel();
+			}
+			// searches see the entries as they are found
+			final ContributionIndex jobIndex = new ContributionIndex();
+			index = jobIndex;
 			outputDirectories.clear();
+			final JarEntryStore store = getJarEntryStore();
 
 			final Job job = new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
 
@@ -311,7 +319,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						monitor.subTask(rootDirectory);
 						monitor.worked(1);
 						TargetPlatformContributionCollector.this
-						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
+						.visit(monitor, jobIndex, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
 								new File(rootDirectory));
 					}
 
@@ -328,65 +336,30 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							// bundle = getBundle(new File())
 							continue;
 						}
-						URL url;
 						try {
 							final String installLocation = pluginModelBase.getInstallLocation();
 							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
-										}
+								// the central directory is enough to list the entries
+								for (final String name2 : store.getEntryNames(new File(installLocation),
+										name -> !shouldIgnore(name) && patternFile.matcher(name).matches())) {
+									final Matcher m = patternFile.matcher(name2);
+									if (m.matches()) {
+										jobIndex.add(createEntry(m, pluginBase.getId(), installLocation));
 									}
 								}
 							} else {
 								// not a jar file
 								final String bundle = getBundle(new File(installLocation));
 								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
+									visit(monitor, jobIndex, bundle, installLocation, new File(installLocation));
 								}
 							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
 						} catch (final IOException e) {
 							// TODO Auto-generated catch block
 							e.printStackTrace();
 						}
 					}
+					store.save();
 					monitor.done();
 					if (monitor.isCanceled()) {
 						if (providerStatusCallback != null) {
@@ -400,6 +373,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					return Status.OK_STATUS;
 				}
 			};
+			indexJob = job;
 			job.schedule();
 
 			// User Job will not display dialog if called from a modal dialog,
@@ -505,13 +479,14 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
+	protected void visit(IProgressMonitor monitor, ContributionIndex entries, String bundleName, String installLocation,
+			File file) {
 		for (final File fChild : file.listFiles()) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, entries, bundleName, installLocation, fChild);
 			} else {
 				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
 				name2 = stripOutputDirectory(name2, installLocation);
@@ -520,45 +495,60 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				}
 				final Matcher m = patternFile.matcher(name2);
 				if (m.matches()) {
-					final Entry e = new Entry();
-					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
-					e.name = m.group(2);
-					if (e.name.contains("$")) { //$NON-NLS-1$
+					if (m.group(2).contains("$")) { //$NON-NLS-1$
 						continue;
 					}
-					e.path = m.group(1);
-					if (e.path != null) {
-						e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-						if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(1);
-						}
-						if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-						}
-					} else {
-						e.pakage = ""; //$NON-NLS-1$
-					}
-					if (e.path == null) {
-						e.path = ""; //$NON-NLS-1$
-					}
+					final Entry e = createEntry(m, bundleName, installLocation);
 					e.relativePath = IPath
 							.fromOSString(file.getAbsolutePath().replace(e.installLocation, "")).makeRelative().toOSString(); //$NON-NLS-1$
-
-					e.bundleSymName = bundleName;
 					// TODO we need project to strip source paths.
 					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
-					}
+					entries.add(e);
 				}
 			}
 		}
 
 	}
 
+	private static Entry createEntry(Matcher m, String bundleName, String installLocation) {
+		final Entry e = new Entry();
+		e.installLocation = installLocation;
+		e.name = m.group(2);
+		e.path = m.group(1);
+		if (e.path != null) {
+			e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+				e.pakage = e.pakage.substring(1);
+			}
+			if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+				e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
+			}
+		} else {
+			e.pakage = ""; //$NON-NLS-1$
+			e.path = ""; //$NON-NLS-1$
+		}
+		e.bundleSymName = bundleName;
+		return e;
+	}
+
+	/**
+	 * @return the store of the jar entries matching the file pattern, persisted
+	 *         in the state location of this bundle if there is one
+	 */
+	private JarEntryStore getJarEntryStore() {
+		if (jarEntryStore == null) {
+			File storeFile = null;
+			try {
+				storeFile = Platform.getStateLocation(FrameworkUtil.getBundle(TargetPlatformContributionCollector.class))
+						.append(getClass().getSimpleName() + ".index").toFile(); //$NON-NLS-1$
+			} catch (final IllegalStateException e) {
+				// no instance location, keep the index in memory only
+			}
+			jarEntryStore = new JarEntryStore(storeFile, patternFile.pattern());
+		}
+		return jarEntryStore;
+	}
+
 	static private String stripOutputDirectory(String path, String installLocation) {
 		if (installLocation.matches(".*\\.jar")) { //$NON-NLS-1$
 			return path;
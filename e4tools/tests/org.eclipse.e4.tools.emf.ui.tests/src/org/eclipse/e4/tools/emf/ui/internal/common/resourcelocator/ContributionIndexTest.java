@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+import org.junit.Test;
+
+public class ContributionIndexTest {
+
+	@Test
+	public void testEntriesAreFoundInDiscoveryOrder() {
+		final ContributionIndex index = new ContributionIndex();
+		index.add(entry("b.Zeta", "bundle.b"));
+		index.add(entry("a.Alpha", "bundle.a"));
+		index.add(entry("c.Zeta", "bundle.c"));
+		index.add(entry("a.Beta", "bundle.a"));
+		assertEquals(List.of("b.Zeta", "a.Alpha", "c.Zeta", "a.Beta"), find(index, null, null));
+		assertEquals(List.of("b.Zeta", "c.Zeta"), find(index, "zet", null));
+		assertEquals(List.of("b.Zeta", "c.Zeta", "a.Beta"), find(index, "*et*", null));
+		assertEquals(List.of("a.Alpha"), find(index, "a?ph", null));
+	}
+
+	@Test
+	public void testEntriesAreFoundWhileIndexing() {
+		final ContributionIndex index = new ContributionIndex();
+		assertTrue(index.isEmpty());
+		index.add(entry("a.Alpha", "bundle.a"));
+		final ContributionIndex.Matches matches = index.find("alpha", null);
+		index.add(entry("b.Alpha", "bundle.b"));
+		assertFalse(index.isEmpty());
+		// a search is not affected by later additions
+		assertEquals(List.of("a.Alpha"), names(matches));
+		assertEquals(List.of("a.Alpha", "b.Alpha"), find(index, "alpha", null));
+		assertEquals(Set.of("bundle.a", "bundle.b"), index.getBundleIds());
+		assertEquals(Set.of("a", "b"), index.getPackages());
+	}
+
+	@Test
+	public void testRefinedSearch() {
+		final ContributionIndex index = new ContributionIndex();
+		index.add(entry("a.Alpha", "bundle.a"));
+		index.add(entry("a.Alps", "bundle.a"));
+		index.add(entry("a.Beta", "bundle.a"));
+		final ContributionIndex.Matches matches = index.find("al", null);
+		assertEquals(List.of("a.Alpha", "a.Alps"), names(matches));
+		// names added after the previous search are searched too
+		index.add(entry("b.Alpine", "bundle.b"));
+		index.add(entry("b.Gamma", "bundle.b"));
+		assertEquals(List.of("a.Alpha", "a.Alps", "b.Alpine"), find(index, "ALP", matches));
+		assertEquals(List.of("a.Alpha", "a.Alps", "b.Alpine"), find(index, "alp", null));
+		// a pattern that does not refine the previous one searches all names
+		assertEquals(List.of("a.Beta"), find(index, "bet", matches));
+		assertEquals(List.of("b.Gamma"), find(index, "*ma", matches));
+		// the result of another index is ignored
+		assertEquals(List.of(), find(new ContributionIndex(), "alp", matches));
+	}
+
+	private static List<String> find(ContributionIndex index, String pattern, ContributionIndex.Matches previous) {
+		return names(index.find(pattern, previous));
+	}
+
+	private static List<String> names(ContributionIndex.Matches matches) {
+		final List<String> names = new ArrayList<>();
+		for (final Entry e : matches) {
+			names.add(e.pakage + "." + e.name);
+		}
+		return names;
+	}
+
+	private static Entry entry(String className, String bundle) {
+		final Entry e = new Entry();
+		final int dot = className.lastIndexOf('.');
+		e.pakage = className.substring(0, dot);
+		e.path = e.pakage.replace('.', '/');
+		e.name = className.substring(dot + 1);
+		e.bundleSymName = bundle;
+		e.installLocation = "/target/" + bundle;
+		return e;
+	}
+}
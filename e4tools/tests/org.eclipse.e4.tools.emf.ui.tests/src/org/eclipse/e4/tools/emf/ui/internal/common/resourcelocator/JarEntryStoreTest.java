@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JarEntryStoreTest {
+
+	private static final Predicate<String> CLASSES = name -> name.endsWith(".class");
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File storeFile;
+	private File jar;
+
+	@Before
+	public void setUp() throws Exception {
+		storeFile = new File(folder.getRoot(), "entries.index");
+		jar = new File(folder.getRoot(), "bundle.jar");
+	}
+
+	@Test
+	public void testAcceptedEntries() throws Exception {
+		writeJar("a/A.class", "a/A.txt", "b/B.class");
+		assertEquals(List.of("a/A.class", "b/B.class"), new JarEntryStore(null, "classes").getEntryNames(jar, CLASSES));
+	}
+
+	@Test
+	public void testListingIsReusedInLaterSession() throws Exception {
+		writeJar("a/A.class");
+		final JarEntryStore store = new JarEntryStore(storeFile, "classes");
+		store.getEntryNames(jar, CLASSES);
+		store.save();
+		assertTrue(storeFile.isFile());
+
+		// the jar is not opened again, so a filter accepting nothing still
+		// gets the stored listing
+		assertEquals(List.of("a/A.class"), new JarEntryStore(storeFile, "classes").getEntryNames(jar, name -> false));
+		// unless the store was made for another filter
+		assertEquals(List.of(), new JarEntryStore(storeFile, "other").getEntryNames(jar, name -> false));
+	}
+
+	@Test
+	public void testChangedJarIsListedAgain() throws Exception {
+		final long lastModified = writeJar("a/A.class");
+		final JarEntryStore store = new JarEntryStore(storeFile, "classes");
+		store.getEntryNames(jar, CLASSES);
+		store.save();
+
+		writeJar("a/A.class", "b/B.class");
+		jar.setLastModified(lastModified + 10_000);
+		assertEquals(List.of("a/A.class", "b/B.class"), new JarEntryStore(storeFile, "classes").getEntryNames(jar, CLASSES));
+	}
+
+	@Test
+	public void testCorruptStoreIsIgnored() throws Exception {
+		writeJar("a/A.class");
+		Files.writeString(storeFile.toPath(), "corrupt");
+		final JarEntryStore store = new JarEntryStore(storeFile, "classes");
+		assertEquals(List.of("a/A.class"), store.getEntryNames(jar, CLASSES));
+		store.save();
+		assertEquals(List.of("a/A.class"), new JarEntryStore(storeFile, "classes").getEntryNames(jar, name -> false));
+	}
+
+	private long writeJar(String... entries) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+			for (final String entry : entries) {
+				out.putNextEntry(new ZipEntry(entry));
+				out.closeEntry();
+			}
+		}
+		return jar.lastModified();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -36,9 +43,38 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * Maximum number of bundles in all validation states kept for reuse
+	 */
+	private static final int MAX_CACHED_BUNDLES = 10000;
+
+	/**
+	 * Validation states kept for reuse by later validations of the same
+	 * bundles, keyed by the symbolic names of the bundles, least recently used
+	 * first
+	 */
+	private static final Map<Set<String>, CachedState> fgStates = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * A validation state together with the copies of the bundle descriptions
+	 * it contains, keyed by the original descriptions of the models
+	 */
+	private static final class CachedState {
+		final State state = FACTORY.createState(true);
+		final Map<BundleDescription, BundleDescription> copies = new IdentityHashMap<>();
+		Dictionary<String, String>[] properties;
+	}
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
+	private final boolean fReuseState;
 	private State fState;
+	/**
+	 * The bundles of the models in the state, in the order of the models
+	 */
+	private final List<BundleDescription> fBundles = new ArrayList<>();
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -46,8 +82,33 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public BundleValidationOperation(Set<IPluginModelBase> models, Dictionary<String, String>[] properties) {
+		this(models, properties, false);
+	}
+
+	/**
+	 * Creates an operation that validates the given models, optionally in a
+	 * state that is kept for the next validation of bundles with the same
+	 * symbolic names, typically the next launch of the same launch
+	 * configuration. That validation only adds and removes the bundles that
+	 * changed and resolves the state incrementally. The kept states are
+	 * dropped when the target platform is reloaded, and the least recently
+	 * used ones when they hold too many bundles.
+	 * <p>
+	 * A reused state returned by {@link #getState()} is only valid until the
+	 * next validation of the same bundles, resolver errors are recorded when
+	 * the operation is run.
+	 * </p>
+	 *
+	 * @param models the models to validate
+	 * @param properties the platform properties to resolve with
+	 * @param reuseState whether to keep the validation state for reuse and
+	 *            reuse a kept one
+	 */
+	public BundleValidationOperation(Set<IPluginModelBase> models, Dictionary<String, String>[] properties,
+			boolean reuseState) {
 		fModels = models;
 		fProperties = properties;
+		fReuseState = reuseState;
 	}
 
 	@Override
@@ -56,28 +117,164 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
+		fBundles.clear();
+		if (fReuseState) {
+			Set<String> key = getKey();
+			CachedState cached = getCachedState(key);
+			synchronized (cached) {
+				updateState(cached, key, subMonitor);
+				fState = cached.state;
+				fResolverErrors = computeResolverErrors();
+				fHasErrors = computeHasErrors();
+			}
+			trimCachedStates();
+			return;
+		}
 		fState = FACTORY.createState(true);
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				BundleDescription copy = FACTORY.createBundleDescription(bundle);
+				fState.addBundle(copy);
+				fBundles.add(copy);
 			}
 			subMonitor.split(1);
 		}
 		fState.setPlatformProperties(fProperties);
 		fState.resolve(false);
 		subMonitor.split(1);
+		fResolverErrors = computeResolverErrors();
+		fHasErrors = computeHasErrors();
+	}
+
+	/**
+	 * Returns the symbolic names of the bundles to validate, identifying the
+	 * state to reuse
+	 */
+	private Set<String> getKey() {
+		Set<String> names = new HashSet<>();
+		for (IPluginModelBase model : fModels) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle != null && bundle.getSymbolicName() != null) {
+				names.add(bundle.getSymbolicName());
+			}
+		}
+		return Set.copyOf(names);
+	}
+
+	/**
+	 * Returns the cached state for the given key, creating a new one if there
+	 * is none
+	 */
+	private static CachedState getCachedState(Set<String> key) {
+		synchronized (fgStates) {
+			return fgStates.computeIfAbsent(key, k -> new CachedState());
+		}
+	}
+
+	/**
+	 * Drops the least recently used states while all kept states hold more
+	 * than {@link #MAX_CACHED_BUNDLES} bundles, always keeping the most
+	 * recently used one
+	 */
+	private static void trimCachedStates() {
+		synchronized (fgStates) {
+			int bundles = 0;
+			for (CachedState cached : fgStates.values()) {
+				bundles += cached.copies.size();
+			}
+			for (Iterator<CachedState> iterator = fgStates.values().iterator(); bundles > MAX_CACHED_BUNDLES
+					&& fgStates.size() > 1 && iterator.hasNext();) {
+				bundles -= iterator.next().copies.size();
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Brings the given cached state up to date with the models to validate:
+	 * removes the bundles of models no longer validated or changed since the
+	 * last validation, adds the ones of new or changed models and resolves the
+	 * state incrementally.
+	 */
+	private void updateState(CachedState cached, Set<String> key, SubMonitor subMonitor) {
+		long start = System.currentTimeMillis();
+		boolean initial = cached.properties == null;
+		Map<BundleDescription, BundleDescription> copies = cached.copies;
+		Set<BundleDescription> bundles = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (IPluginModelBase model : fModels) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle != null) {
+				bundles.add(bundle);
+			}
+		}
+		int removed = 0;
+		for (Iterator<Entry<BundleDescription, BundleDescription>> iterator = copies.entrySet().iterator(); iterator
+				.hasNext();) {
+			Entry<BundleDescription, BundleDescription> entry = iterator.next();
+			if (!bundles.contains(entry.getKey())) {
+				cached.state.removeBundle(entry.getValue());
+				iterator.remove();
+				removed++;
+			}
+		}
+		int added = 0;
+		for (IPluginModelBase model : fModels) {
+			BundleDescription bundle = model.getBundleDescription();
+			if (bundle != null) {
+				BundleDescription copy = copies.get(bundle);
+				if (copy == null) {
+					copy = FACTORY.createBundleDescription(bundle);
+					cached.state.addBundle(copy);
+					copies.put(bundle, copy);
+					added++;
+				}
+				fBundles.add(copy);
+			}
+			subMonitor.split(1);
+		}
+		boolean propertiesChanged = !Arrays.equals(cached.properties, fProperties);
+		if (propertiesChanged) {
+			cached.state.setPlatformProperties(fProperties);
+			cached.properties = fProperties;
+		}
+		cached.state.resolve(!initial && !propertiesChanged);
+		subMonitor.split(1);
+		if (PDECore.DEBUG_VALIDATION) {
+			System.out.println("Bundle validation of " + key.size() + " bundles: added " + added + ", removed " //$NON-NLS-1$ //$NON-NLS-2$
+					+ removed + ", reused " + (copies.size() - added) + " bundles, " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (initial || propertiesChanged ? "full" : "incremental") + " resolve in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Discards all validation states kept for reuse, called when the target
+	 * platform is reloaded
+	 */
+	public static void flushCachedStates() {
+		synchronized (fgStates) {
+			fgStates.clear();
+		}
 	}
 
 	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	/**
+	 * Computes the errors in the order of the models, as the order of the
+	 * bundles of a reused state depends on the bundles added and removed
+	 * before
+	 */
+	private Map<Object, Object[]> computeResolverErrors() {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
-		for (BundleDescription bundle : bundles) {
+		for (BundleDescription bundle : fBundles) {
 			if (!bundle.isResolved()) {
 				map.put(bundle, fState.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,11 +289,28 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
+	/**
+	 * Returns the bundles with the given symbolic name, in the order of the
+	 * models
+	 */
+	private BundleDescription[] getBundles(String symbolicName) {
+		BundleDescription[] bundles = fState.getBundles(symbolicName);
+		if (bundles.length < 2) {
+			return bundles;
+		}
+		return fBundles.stream().filter(bundle -> symbolicName.equals(bundle.getSymbolicName()))
+				.toArray(BundleDescription[]::new);
+	}
+
 	public State getState() {
 		return fState;
 	}
 
 	public boolean hasErrors() {
+		return fHasErrors;
+	}
+
+	private boolean computeHasErrors() {
 		if (fState.getHighestBundleId() > -1) {
 			BundleDescription[] bundles = fState.getBundles();
 			for (BundleDescription bundle : bundles) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,12 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtension;
@@ -40,6 +44,26 @@ import org.osgi.resource.Resource;
 
 public class PDEExtensionRegistry {
 
+	/**
+	 * The extensions of an extension point, <code>point</code> is
+	 * <code>null</code> if the extension point does not exist
+	 */
+	private record PointEntry(IExtensionPoint point, IExtension[] extensions) {
+	}
+
+	/**
+	 * The entry of extension points that do not exist, which are not indexed
+	 * as they may be added at any time
+	 */
+	private static final PointEntry NO_POINT = new PointEntry(null, new IExtension[0]);
+
+	/**
+	 * The model of a contributor and whether it is shadowed by a workspace
+	 * model with the same symbolic name
+	 */
+	private record ContributorEntry(IPluginModelBase model, boolean shadowed) {
+	}
+
 	private final Object fMasterKey = new Object();
 	private final Object fUserKey = new Object();
 	private IExtensionRegistry fRegistry = null;
@@ -48,6 +72,25 @@ public class PDEExtensionRegistry {
 	private IPluginModelBase[] fModels = null;
 	private final ArrayList<IRegistryChangeListener> fListeners = new ArrayList<>();
 
+	/**
+	 * Index of the ids of existing extension points to their extensions,
+	 * filled on demand and updated as contributions are added to or removed
+	 * from the registry
+	 */
+	private final Map<String, PointEntry> fPointIndex = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever entries are removed from the point index, so an
+	 * entry computed before is not published afterwards. Guarded by this.
+	 */
+	private long fPointIndexGeneration;
+
+	/**
+	 * Models of contributors by contributor id, filled on demand and cleared
+	 * whenever the plug-in models change
+	 */
+	private final Map<String, ContributorEntry> fContributorIndex = new ConcurrentHashMap<>();
+
 	private static final String EXTENSION_DIR = ".extensions"; //$NON-NLS-1$
 
 	public PDEExtensionRegistry() {
@@ -83,7 +126,7 @@ public class PDEExtensionRegistry {
 		return fModels;
 	}
 
-	public void stop() {
+	public synchronized void stop() {
 		if (fRegistry != null) {
 			fRegistry.stop(fMasterKey);
 		}
@@ -92,6 +135,7 @@ public class PDEExtensionRegistry {
 
 	protected synchronized IExtensionRegistry getRegistry() {
 		if (fRegistry == null) {
+			clearIndex();
 			fRegistry = createRegistry();
 			for (ListIterator<IRegistryChangeListener> li = fListeners.listIterator(); li.hasNext();) {
 				fRegistry.addRegistryChangeListener(li.next());
@@ -104,7 +148,7 @@ public class PDEExtensionRegistry {
 		return RegistryFactory.createRegistry(fStrategy, fMasterKey, fUserKey);
 	}
 
-	public void targetReloaded() {
+	public synchronized void targetReloaded() {
 		// stop old registry (which will write contents to FS) and delete the cache it creates
 		// might see if we can dispose of a registry without writing to file system.  NOTE: Don't call stop() because we want to still reuse fStrategy
 		if (fRegistry != null) {
@@ -112,23 +156,71 @@ public class PDEExtensionRegistry {
 		}
 		CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
 		fRegistry = null;
+		clearIndex();
 	}
 
 	// dispose of registry without writing contents.
-	public void dispose() {
+	public synchronized void dispose() {
 		fStrategy.dispose();
 		fRegistry = null;
+		clearIndex();
+	}
+
+	private void clearIndex() {
+		fPointIndexGeneration++;
+		fPointIndex.clear();
+		fContributorIndex.clear();
+	}
+
+	/**
+	 * Returns the ids of the extension points the given contributor declares
+	 * or contributes extensions to in the given registry
+	 */
+	Set<String> getPointIds(IExtensionRegistry registry, IContributor contributor) {
+		synchronized (this) {
+			if (fRegistry != registry) {
+				// the registry is being created or was discarded, its
+				// contributions are not indexed
+				return Collections.emptySet();
+			}
+		}
+		Set<String> pointIds = new HashSet<>();
+		for (IExtension extension : registry.getExtensions(contributor)) {
+			pointIds.add(extension.getExtensionPointUniqueIdentifier());
+		}
+		for (IExtensionPoint point : registry.getExtensionPoints(contributor)) {
+			pointIds.add(point.getUniqueIdentifier());
+		}
+		return pointIds;
+	}
+
+	/**
+	 * Updates the index for contributions to the given extension points having
+	 * been added to or removed from the registry. Must be called after the
+	 * registry was changed.
+	 */
+	synchronized void pointsChanged(Set<String> pointIds) {
+		fPointIndexGeneration++;
+		fPointIndex.keySet().removeAll(pointIds);
+	}
+
+	/**
+	 * Updates the index for a change of the plug-in models, which may change
+	 * the models contributions are mapped to
+	 */
+	void modelsChanged() {
+		fContributorIndex.clear();
 	}
 
 	// Methods to access data in Extension Registry
 
 	public IPluginModelBase[] findExtensionPlugins(String pointId, boolean activeOnly) {
-		IExtensionPoint point = getExtensionPoint(pointId);
-		if (point == null) {
+		PointEntry entry = getPointEntry(pointId);
+		if (entry.point() == null) {
 			// if extension point for extension does not exist, search all plug-ins manually
 			return activeOnly ? PluginRegistry.getActiveModels() : PluginRegistry.getAllModels();
 		}
-		IExtension[] exts = point.getExtensions();
+		IExtension[] exts = entry.extensions();
 		HashSet<IPluginModelBase> plugins = new HashSet<>();
 		for (IExtension ext : exts) {
 			IPluginModelBase base = getPlugin(ext.getContributor(), false);
@@ -152,7 +244,35 @@ public class PDEExtensionRegistry {
 	}
 
 	private IExtensionPoint getExtensionPoint(String pointId) {
-		return getRegistry().getExtensionPoint(pointId);
+		return getPointEntry(pointId).point();
+	}
+
+	private PointEntry getPointEntry(String pointId) {
+		PointEntry entry = fPointIndex.get(pointId);
+		if (entry != null) {
+			return entry;
+		}
+		IExtensionRegistry registry;
+		long generation;
+		synchronized (this) {
+			registry = getRegistry();
+			generation = fPointIndexGeneration;
+		}
+		// like in getPointIds, the registry is not queried under the lock
+		IExtensionPoint point = registry.getExtensionPoint(pointId);
+		if (point == null) {
+			return NO_POINT;
+		}
+		entry = new PointEntry(point, point.getExtensions());
+		synchronized (this) {
+			if (fRegistry != registry || fPointIndexGeneration != generation) {
+				// the registry was discarded or changed meanwhile, the entry
+				// may be stale and is not indexed
+				return entry;
+			}
+			PointEntry indexed = fPointIndex.putIfAbsent(pointId, entry);
+			return indexed != null ? indexed : entry;
+		}
 	}
 
 	/*
@@ -225,11 +345,11 @@ public class PDEExtensionRegistry {
 
 	public IExtension[] findExtensions(String extensionPointId, boolean activeOnly) {
 		ArrayList<IExtension> list = new ArrayList<>();
-		IExtensionPoint point = getExtensionPoint(extensionPointId);
-		if (point != null) {
-			IExtension[] extensions = point.getExtensions();
+		PointEntry entry = getPointEntry(extensionPointId);
+		if (entry.point() != null) {
+			IExtension[] extensions = entry.extensions();
 			if (!activeOnly) {
-				return extensions;
+				return extensions.clone();
 			}
 			for (IExtension extension : extensions) {
 				IPluginModelBase base = getPlugin(extension.getContributor(), true);
@@ -260,27 +380,30 @@ public class PDEExtensionRegistry {
 		if (!(icontributor instanceof RegistryContributor contributor)) {
 			return null;
 		}
+		ContributorEntry entry = fContributorIndex.computeIfAbsent(contributor.getActualId(), id -> findContributorEntry(contributor));
+		return searchAll || !entry.shadowed() ? entry.model() : null;
+	}
+
+	private ContributorEntry findContributorEntry(RegistryContributor contributor) {
 		long bundleId = Long.parseLong(contributor.getActualId());
 		Resource desc = PDECore.getDefault().getModelManager().getState().getState()
 				.getBundle(Long.parseLong(contributor.getActualId()));
 		if (desc != null) {
-			return PluginRegistry.findModel(desc);
+			return new ContributorEntry(PluginRegistry.findModel(desc), false);
 		}
 		// desc might be null if the workspace contains a plug-in with the same Bundle-SymbolicName
 		ModelEntry entry = PluginRegistry.findEntry(contributor.getActualName());
 		if (entry != null) {
-			if (!searchAll && entry.getWorkspaceModels().length > 0) {
-				return null;
-			}
+			boolean shadowed = entry.getWorkspaceModels().length > 0;
 			IPluginModelBase externalModels[] = entry.getExternalModels();
 			for (IPluginModelBase model : externalModels) {
 				BundleDescription extDesc = model.getBundleDescription();
 				if (extDesc != null && extDesc.getBundleId() == bundleId) {
-					return model;
+					return new ContributorEntry(model, shadowed);
 				}
 			}
 		}
-		return null;
+		return new ContributorEntry(null, false);
 	}
 
 	// Methods to add/remove listeners
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -74,6 +75,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			if (fRegistry == null) {
 				createRegistry();
 			}
+			fPDERegistry.modelsChanged();
 			// can ignore removed models since the ModelEntries is empty
 			ModelEntry[] entries = delta.getChangedEntries();
 			for (int i = 0; i < entries.length; i++) {
@@ -97,7 +99,9 @@ public class PDERegistryStrategy extends RegistryStrategy {
 						IContributor[] contributors = registry.getAllContributors();
 						for (IContributor contributor : contributors) {
 							if (entry.getId().equals(contributor.getName())) {
+								Set<String> pointIds = fPDERegistry.getPointIds(fRegistry, contributor);
 								registry.removeContributor(contributor, fKey);
+								fPDERegistry.pointsChanged(pointIds);
 								break;
 							}
 						}
@@ -118,6 +122,7 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			if (fRegistry == null) {
 				createRegistry();
 			}
+			fPDERegistry.modelsChanged();
 			IPluginModelBase[] bases = event.getRemovedModels();
 			removeModels(bases, false);
 			removeModels(event.getChangedModels(), false);
@@ -239,13 +244,16 @@ public class PDERegistryStrategy extends RegistryStrategy {
 			}
 		} catch (IOException ignored) {
 		}
+		fPDERegistry.pointsChanged(fPDERegistry.getPointIds(registry, contributor));
 	}
 
 	private void removeBundle(IExtensionRegistry registry, IPluginModelBase base) {
 		if (registry instanceof IDynamicExtensionRegistry) {
 			IContributor contributor = createContributor(base);
 			if (contributor != null && ((IDynamicExtensionRegistry) registry).hasContributor(contributor)) {
+				Set<String> pointIds = fPDERegistry.getPointIds(registry, contributor);
 				((IDynamicExtensionRegistry) registry).removeContributor(createContributor(base), fKey);
+				fPDERegistry.pointsChanged(pointIds);
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,13 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -86,15 +89,26 @@ public class PDEState extends MinimalState {
 			fState.getResolver().setSelectionPolicy(policy);
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
-			}
+				uris.length * 2);
+		// read the manifests in parallel, but add the bundles in the order of
+		// the given URIs so that they get the same ids as when added one by one
+		List<TargetManifest> manifests = Arrays.stream(uris).parallel() //
+				.map(uri -> {
+					TargetManifest manifest = loadManifest(uri);
+					synchronized (subMonitor) {
+						subMonitor.worked(1);
+					}
+					return manifest;
+				}).filter(Objects::nonNull) //
+				.toList();
+		subMonitor.setWorkRemaining(manifests.size());
+		for (TargetManifest manifest : manifests) {
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
+				subMonitor.subTask(manifest.file().getName());
+				if (manifest.error() != null) {
+					throw manifest.error();
+				}
+				addBundle(manifest.file(), -1, manifest.headers());
 			} catch (CoreException e) {
 				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
 					PDECore.log(e);
@@ -104,6 +118,32 @@ public class PDEState extends MinimalState {
 		}
 	}
 
+	/**
+	 * The manifest headers read from a target bundle or the error that occurred
+	 * reading them.
+	 */
+	private record TargetManifest(File file, Map<String, String> headers, CoreException error) {
+	}
+
+	/**
+	 * Reads the manifest of the bundle at the given URI, safe to be called
+	 * concurrently.
+	 *
+	 * @return the manifest or {@code null} if the URI can't be converted to a
+	 *         file
+	 */
+	private static TargetManifest loadManifest(URI uri) {
+		File file = toFile(uri);
+		if (file == null) {
+			return null;
+		}
+		try {
+			return new TargetManifest(file, ManifestUtils.loadManifest(file), null);
+		} catch (CoreException e) {
+			return new TargetManifest(file, null, e);
+		}
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -73,11 +73,16 @@ public class PluginModelManager implements IModelProviderListener {
 	 * Job to update class path containers asynchronously. Avoids blocking the UI thread
 	 * while saving the manifest editor. The job is given a workspace lock so other jobs can't
 	 * run on a stale classpath.
+	 * <p>
+	 * Containers that would not change the classpath of the project, see
+	 * {@link RequiredPluginsClasspathContainer#isUnchanged(IClasspathContainer)}, are not
+	 * passed on to JDT, since doing so would trigger a build of the project for nothing.
+	 * </p>
 	 */
 	class UpdateClasspathsJob extends Job {
 
 		private final List<IJavaProject> fProjects = new ArrayList<>();
-		private final List<IClasspathContainer> fContainers = new ArrayList<>();
+		private final List<RequiredPluginsClasspathContainer> fContainers = new ArrayList<>();
 
 		/**
 		 * Constructs a new job.
@@ -94,14 +99,30 @@ public class PluginModelManager implements IModelProviderListener {
 				boolean more = false;
 				do {
 					IJavaProject[] projects = null;
-					IClasspathContainer[] containers = null;
+					RequiredPluginsClasspathContainer[] containers = null;
 					synchronized (fProjects) {
 						projects = fProjects.toArray(new IJavaProject[fProjects.size()]);
-						containers = fContainers.toArray(new IClasspathContainer[fContainers.size()]);
+						containers = fContainers.toArray(new RequiredPluginsClasspathContainer[fContainers.size()]);
 						fProjects.clear();
 						fContainers.clear();
 					}
-					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
+					List<IJavaProject> changedProjects = new ArrayList<>(projects.length);
+					List<IClasspathContainer> changedContainers = new ArrayList<>(containers.length);
+					for (int i = 0; i < projects.length; i++) {
+						if (!isUnchanged(projects[i], containers[i])) {
+							changedProjects.add(projects[i]);
+							changedContainers.add(containers[i]);
+						}
+					}
+					if (PDECore.DEBUG_CLASSPATH) {
+						System.out.println("Updating classpath containers of " + changedProjects.size() + " of " //$NON-NLS-1$ //$NON-NLS-2$
+								+ projects.length + " projects"); //$NON-NLS-1$
+					}
+					if (!changedProjects.isEmpty()) {
+						JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+								changedProjects.toArray(IJavaProject[]::new),
+								changedContainers.toArray(IClasspathContainer[]::new), monitor);
+					}
 					synchronized (fProjects) {
 						more = !fProjects.isEmpty();
 					}
@@ -113,10 +134,20 @@ public class PluginModelManager implements IModelProviderListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Returns whether the given container would not change the classpath of the given
+		 * project.
+		 */
+		private boolean isUnchanged(IJavaProject project, RequiredPluginsClasspathContainer container)
+				throws JavaModelException {
+			return container.isUnchanged(
+					JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, project));
+		}
+
 		/**
 		 * Queues more projects/containers.
 		 */
-		void add(IJavaProject project, IClasspathContainer container) {
+		void add(IJavaProject project, RequiredPluginsClasspathContainer container) {
 			synchronized (fProjects) {
 				fProjects.add(project);
 				fContainers.add(container);
@@ -616,6 +647,8 @@ public class PluginModelManager implements IModelProviderListener {
 		// flush the extension registry cache since workspace data (BundleDescription id's) have changed.
 		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
 		if (oldState != null) {
+			// validation states kept for launches refer to the old target bundles
+			BundleValidationOperation.flushCachedStates();
 			// Need to update classpath entries
 			updateAffectedEntries(null);
 		}
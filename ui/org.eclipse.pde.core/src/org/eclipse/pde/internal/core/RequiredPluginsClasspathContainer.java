@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -108,6 +108,25 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 		this.project = project;
 	}
 
+	/**
+	 * Returns whether setting this container on the project instead of the
+	 * given one would leave the classpath of the project unchanged. This is
+	 * only the case if the given container has been computed for the current
+	 * plug-in model of the project, the same model as this container, and has
+	 * the same entries.
+	 *
+	 * @param current
+	 *            the container currently set on the project, may be
+	 *            <code>null</code>
+	 * @return <code>true</code> if the given container can be kept,
+	 *         <code>false</code> if it has to be replaced by this one
+	 */
+	public boolean isUnchanged(IClasspathContainer current) {
+		return current instanceof RequiredPluginsClasspathContainer container && container.fModel == fModel
+				&& Objects.equals(container.project, project)
+				&& Arrays.equals(container.getClasspathEntries(), getClasspathEntries());
+	}
+
 	@Override
 	public int getKind() {
 		return K_APPLICATION;
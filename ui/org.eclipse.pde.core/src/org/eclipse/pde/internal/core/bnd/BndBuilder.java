@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,14 +13,23 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.bnd;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -45,7 +54,10 @@ import org.eclipse.pde.internal.core.project.PDEProject;
 import aQute.bnd.build.Project;
 import aQute.bnd.build.ProjectBuilder;
 import aQute.bnd.osgi.Builder;
+import aQute.bnd.osgi.Constants;
 import aQute.bnd.osgi.Jar;
+import aQute.bnd.osgi.Processor;
+import aQute.bnd.osgi.Resource;
 
 public class BndBuilder extends IncrementalProjectBuilder {
 
@@ -64,6 +76,15 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		return true;
 	};
 
+	/**
+	 * State of the last build of each sub-bundle of a project, keyed by output
+	 * file
+	 */
+	private static final Map<IProject, Map<File, SubBundleState>> subBundleStates = new ConcurrentHashMap<>();
+
+	private record SubBundleState(String inputs, String digest, long outputModified) {
+	}
+
 	private final Map<IProject, Job> buildJobMap = new ConcurrentHashMap<>();
 
 	public static final String BUILDER_ID = "org.eclipse.pde.BndBuilder";//$NON-NLS-1$
@@ -98,6 +119,16 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		if (file.exists()) {
 			file.deleteMarkers(PDEMarkerFactory.MARKER_ID, true, IResource.DEPTH_ZERO);
 		}
+		// markers of sub-bundles are only re-created if they are rebuilt
+		forgetSubBundles(getProject());
+	}
+
+	/**
+	 * Forgets the state of the sub-bundles of the given project, so they are
+	 * built again the next time the project is built
+	 */
+	static void forgetSubBundles(IProject project) {
+		subBundleStates.remove(project);
 	}
 
 	private static final class BndBuild implements ICoreRunnable {
@@ -160,34 +191,67 @@ public class BndBuilder extends IncrementalProjectBuilder {
 				builder.addBasicPlugin(new MakeJar());
 				builder.setBase(bnd.getBase());
 				ProjectJar jar = new ProjectJar(project, CLASS_FILTER);
+				// the classes of the project are an input of the sub jars too
+				long classesModified = jar.lastModified();
+				int classCount = jar.getResources().size();
 				builder.setJar(jar);
 				// build the main jar
 				builder.build();
 				new BndErrorReporter(project, bnd, project.getFile(BndProject.INSTRUCTIONS_FILE))
 						.validateContent(monitor);
-				// now build sub jars
-				List<Builder> subBuilders = builder.getSubBuilders();
-				for (Builder subBuilder : subBuilders) {
+				// now build sub jars, unless their inputs are unchanged. They are
+				// built one after the other, like bnd's Builder.builds() does: the
+				// sub-builders share the classpath jars and plugins of the project
+				// builder, which are not thread safe.
+				Map<File, SubBundleState> previousStates = subBundleStates.getOrDefault(project, Map.of());
+				Map<File, SubBundleState> states = new HashMap<>();
+				for (Builder subBuilder : builder.getSubBuilders()) {
 					if (subBuilder == builder) {
 						continue;
 					}
 					File outputFile = subBuilder.getOutputFile(null);
-					if (outputFile != null) {
-						Jar subJar = subBuilder.build();
+					if (outputFile == null) {
+						continue;
+					}
+					String inputs = digestInputs(subBuilder, classesModified, classCount);
+					SubBundleState previous = previousStates.get(outputFile);
+					if (previous != null && previous.inputs().equals(inputs)
+							&& previous.outputModified() == outputFile.lastModified()) {
+						// same inputs give the same jar and the same problems,
+						// so the output and the markers are still up to date
+						if (PDECore.DEBUG_BND) {
+							System.out.println("BndBuilder: sub-bundle " + subBuilder.getBsn() + " of " //$NON-NLS-1$ //$NON-NLS-2$
+									+ project.getName() + " unchanged, skipped"); //$NON-NLS-1$
+						}
+						states.put(outputFile, previous);
+						continue;
+					}
+					Jar subJar = subBuilder.build();
+					String digest = digest(subJar);
+					boolean written = previous == null || !previous.digest().equals(digest)
+							|| previous.outputModified() != outputFile.lastModified();
+					if (written) {
 						subJar.write(outputFile);
 						for (IFile file : project.getWorkspace().getRoot()
 								.findFilesForLocationURI(outputFile.toURI())) {
 							file.refreshLocal(IResource.DEPTH_ZERO, monitor);
 						}
-						File propertiesFile = subBuilder.getPropertiesFile();
-						if (propertiesFile != null) {
-							for (IFile file : project.getWorkspace().getRoot()
-									.findFilesForLocationURI(propertiesFile.toURI())) {
-								new BndErrorReporter(project, subBuilder, file).validateContent(monitor);
-							}
+					}
+					states.put(outputFile, new SubBundleState(inputs, digest, outputFile.lastModified()));
+					if (PDECore.DEBUG_BND) {
+						System.out.println("BndBuilder: sub-bundle " + subBuilder.getBsn() + " of " //$NON-NLS-1$ //$NON-NLS-2$
+								+ project.getName() + (written ? " rebuilt" : " rebuilt, output unchanged")); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					// the problems may have changed even if the jar did not
+					File propertiesFile = subBuilder.getPropertiesFile();
+					if (propertiesFile != null) {
+						for (IFile file : project.getWorkspace().getRoot()
+								.findFilesForLocationURI(propertiesFile.toURI())) {
+							new BndErrorReporter(project, subBuilder, file).validateContent(monitor);
 						}
 					}
 				}
+				subBundleStates.put(project, states);
 			}
 			if (monitor.isCanceled()) {
 				return;
@@ -197,6 +261,74 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Computes a digest of the inputs of the given sub-builder: its properties
+	 * files and the files they include, its classpath and the classes of the
+	 * project. The digest is computed before the sub-builder is built, so the
+	 * files named by its <code>-classpath</code> instruction are digested too,
+	 * whether or not they were already added to its classpath.
+	 *
+	 * @param subBuilder the sub-builder, not yet built
+	 * @param classesModified the last modification of the project's classes
+	 * @param classCount the number of the project's classes
+	 * @return the hex encoded digest
+	 * @throws Exception if the digest cannot be computed
+	 */
+	public static String digestInputs(Builder subBuilder, long classesModified, int classCount) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		for (Processor processor = subBuilder; processor != null; processor = processor.getParent()) {
+			digestFile(digest, processor.getPropertiesFile());
+			Set<File> included = processor.getIncluded();
+			if (included != null) {
+				for (File file : included) {
+					digestFile(digest, file);
+				}
+			}
+		}
+		for (Jar classpath : subBuilder.getClasspath()) {
+			digest.update((classpath.getName() + ':' + classpath.lastModified() + ':' + classpath.getResources().size())
+					.getBytes(StandardCharsets.UTF_8));
+			digestFile(digest, classpath.getSource());
+		}
+		for (String path : Processor.split(subBuilder.getProperty(Constants.CLASSPATH))) {
+			digestFile(digest, subBuilder.getFile(path));
+		}
+		digest.update((classesModified + ":" + classCount).getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void digestFile(MessageDigest digest, File file) {
+		if (file != null) {
+			digest.update((file.getPath() + ':' + file.lastModified() + ':' + file.length())
+					.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Computes a digest of the content of the given jar, ignoring the
+	 * last-modified header bnd adds to the manifest
+	 */
+	private static String digest(Jar jar) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		Manifest manifest = jar.getManifest();
+		if (manifest != null) {
+			Manifest copy = new Manifest(manifest);
+			copy.getMainAttributes().remove(new Attributes.Name(Constants.BND_LASTMODIFIED));
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			copy.write(out);
+			digest.update(out.toByteArray());
+		}
+		for (Map.Entry<String, Resource> entry : new TreeMap<>(jar.getResources()).entrySet()) {
+			if (JarFile.MANIFEST_NAME.equals(entry.getKey())) {
+				continue;
+			}
+			digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+			// the buffer may be shared with the resource, don't move its position
+			digest.update(entry.getValue().buffer().duplicate());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
 	private static boolean requireBuild(IProject project) {
 		// If there is no manifest file yet, always generate one
 		return !PDEProject.getManifest(project).exists();
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * SHA-256 hashes of the bundle files of the target platform, as needed for
+ * their <code>osgi.content</code> capabilities.
+ * <p>
+ * Hashes are keyed by the absolute path of the file and are only valid as
+ * long as the size and modification time of the file do not change. They are
+ * persisted in the PDE state location so they survive restarts.
+ * </p>
+ */
+public final class ContentHashStore {
+
+	/**
+	 * Magic number identifying a hash store file
+	 */
+	private static final int MAGIC = 0x50434853; // 'PCHS'
+
+	/**
+	 * Version of the store file format, bump when the layout changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Size of the buffer files are read into for hashing. Files are not memory
+	 * mapped, as a mapping is only released when it is garbage collected and
+	 * keeps the file locked on Windows until then, so a target bundle could
+	 * not be replaced or deleted right after it was hashed.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static ContentHashStore instance;
+
+	private record Entry(long length, long lastModified, String hash) {
+	}
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final File storeFile;
+
+	private volatile boolean dirty;
+
+	/**
+	 * Creates a store persisted in the given file, loading the hashes already
+	 * stored there
+	 *
+	 * @param storeFile the file the store is persisted to, or
+	 *            <code>null</code> to keep it in memory only
+	 */
+	public ContentHashStore(File storeFile) {
+		this.storeFile = storeFile;
+		load();
+	}
+
+	/**
+	 * @return the shared store, loaded from the PDE state location on first
+	 *         access
+	 */
+	static synchronized ContentHashStore getDefault() {
+		if (instance == null) {
+			PDECore pde = PDECore.getDefault();
+			instance = new ContentHashStore(
+					pde != null ? pde.getStateLocation().append(".content_hashes").toFile() : null); //$NON-NLS-1$
+		}
+		return instance;
+	}
+
+	/**
+	 * Saves the shared store if it has been loaded and was modified
+	 */
+	static synchronized void shutdown() {
+		if (instance != null) {
+			instance.save();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Returns the hex encoded SHA-256 hash of the given file, computing it only
+	 * if no hash is known for the current size and modification time of the
+	 * file.
+	 *
+	 * @param file the file to hash
+	 * @return the hash
+	 * @throws IOException if the file cannot be read
+	 */
+	public String getHash(File file) throws IOException {
+		String path = file.getAbsolutePath();
+		long length = file.length();
+		long lastModified = file.lastModified();
+		Entry entry = entries.get(path);
+		if (entry != null && entry.length() == length && entry.lastModified() == lastModified) {
+			return entry.hash();
+		}
+		String hash = computeHash(file);
+		entries.put(path, new Entry(length, lastModified, hash));
+		dirty = true;
+		return hash;
+	}
+
+	private static String computeHash(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private void load() {
+		if (storeFile == null || !storeFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(storeFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				String hash = in.readUTF();
+				entries.put(path, new Entry(length, lastModified, hash));
+			}
+		} catch (IOException e) {
+			// a corrupt store is simply re-computed
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Persists the store if it was modified, forgetting the files that do not
+	 * exist anymore
+	 */
+	public void save() {
+		if (storeFile == null || !dirty) {
+			return;
+		}
+		entries.keySet().removeIf(path -> !new File(path).isFile());
+		try {
+			// the store is replaced as a whole, so a failed save keeps the
+			// previous one
+			Path file = storeFile.toPath();
+			Files.createDirectories(file.getParent());
+			Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (OutputStream stream = Files.newOutputStream(tmp);
+						DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+					// hashes added from now on are saved next time
+					dirty = false;
+					Map<String, Entry> snapshot = Map.copyOf(entries);
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(snapshot.size());
+					for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+						out.writeUTF(entry.getKey());
+						out.writeLong(entry.getValue().length());
+						out.writeLong(entry.getValue().lastModified());
+						out.writeUTF(entry.getValue().hash());
+					}
+				}
+				Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			dirty = true;
+			PDECore.log(e);
+		}
+	}
+}
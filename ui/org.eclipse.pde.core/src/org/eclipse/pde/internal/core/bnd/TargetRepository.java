@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,12 +21,13 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.HexFormat;
 import java.util.List;
@@ -50,6 +51,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -67,6 +69,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	private CapabilityIndex capabilityIndex;
+
 	private TargetRepository() {
 	}
 
@@ -171,12 +175,41 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	public List<Capability> findProvider(Requirement requirement) {
 		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
-				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
+		CapabilityIndex index = getCapabilityIndex();
+		if (index == null) {
+			return List.of();
+		}
+		Stream<Capability> candidates;
+		if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+			// the content capabilities hash the bundle files not hashed
+			// before, so compute them in parallel
+			candidates = index.resources().parallelStream()
+					.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace));
+		} else {
+			candidates = index.getCandidates(requirement);
+		}
+		return candidates.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
 	}
 
+	/**
+	 * Returns the capability index of the current target platform state,
+	 * rebuilding it if the state has changed since it was built
+	 *
+	 * @return the index or <code>null</code> if no state is currently available
+	 */
+	private synchronized CapabilityIndex getCapabilityIndex() {
+		Optional<State> state = getTargetPlatformState();
+		if (state.isEmpty()) {
+			return null;
+		}
+		State current = state.get();
+		if (capabilityIndex == null || !capabilityIndex.isFor(current)) {
+			capabilityIndex = new CapabilityIndex(this, current);
+		}
+		return capabilityIndex;
+	}
+
 	/**
 	 * Aquires a stream of bundles from the current state
 	 *
@@ -236,10 +269,19 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		return instance;
 	}
 
+	/**
+	 * Persists the content hashes computed for the bundles of the target
+	 * platform
+	 */
+	public static void shutdown() {
+		ContentHashStore.shutdown();
+	}
+
 	private static final class BundleDescriptionRepositoryResource implements RepositoryContent, Resource, IAdaptable {
 
 		private BundleDescription bundle;
 		private Repository repository;
+		private List<Capability> capabilities;
 
 		public BundleDescriptionRepositoryResource(Repository repository, BundleDescription bundle) {
 			this.repository = repository;
@@ -252,17 +294,36 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 			if (location != null && (namespace == null || ContentNamespace.CONTENT_NAMESPACE.equals(namespace))) {
 				File file = new File(location);
 				return Stream
-						.concat(bundleRequirements(namespace),
+						.concat(bundleCapabilities(namespace),
 								contentCapabilityMap.computeIfAbsent(file,
 										f -> new ContentCapabilityCache(f, BundleDescriptionRepositoryResource.this))
 										.capability())
 						.toList();
 			}
-			return bundleRequirements(namespace).toList();
+			return bundleCapabilities(namespace).toList();
 		}
 
-		private Stream<Capability> bundleRequirements(String namespace) {
-			return bundle.getCapabilities(namespace).stream().map(original -> new Capability() {
+		/**
+		 * @return the capabilities declared by the bundle, wrapped once so that
+		 *         they refer to this resource
+		 */
+		synchronized List<Capability> getBundleCapabilities() {
+			if (capabilities == null) {
+				capabilities = bundle.getCapabilities(null).stream().map(this::wrap).toList();
+			}
+			return capabilities;
+		}
+
+		private Stream<Capability> bundleCapabilities(String namespace) {
+			Stream<Capability> stream = getBundleCapabilities().stream();
+			if (namespace != null) {
+				stream = stream.filter(capability -> namespace.equals(capability.getNamespace()));
+			}
+			return stream;
+		}
+
+		private Capability wrap(Capability original) {
+			return new Capability() {
 
 				@Override
 				public Resource getResource() {
@@ -288,7 +349,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				public String toString() {
 					return original.toString();
 				}
-			});
+			};
 		}
 
 		@Override
@@ -340,6 +401,122 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	}
 
+	/**
+	 * Index of the capabilities of all bundles of a target platform state by
+	 * namespace and by the value of the attribute named like the namespace,
+	 * e.g. the package name of an <code>osgi.wiring.package</code>
+	 * capability. The index is built once per state and replaced when the
+	 * state is modified.
+	 */
+	private static final class CapabilityIndex {
+
+		private final State state;
+		private final long timeStamp;
+		private final List<BundleDescriptionRepositoryResource> resources;
+		private final Map<String, List<Capability>> byNamespace = new HashMap<>();
+		private final Map<String, Map<String, List<Capability>>> byValue = new HashMap<>();
+		/**
+		 * Capabilities whose namespace attribute is not a string, they are
+		 * candidates for every requirement of their namespace
+		 */
+		private final Map<String, List<Capability>> unkeyed = new HashMap<>();
+
+		CapabilityIndex(Repository repository, State state) {
+			this.state = state;
+			this.timeStamp = state.getTimeStamp();
+			BundleDescription[] bundles = state.getBundles();
+			resources = new ArrayList<>(bundles.length);
+			for (BundleDescription bundle : bundles) {
+				BundleDescriptionRepositoryResource resource = new BundleDescriptionRepositoryResource(repository,
+						bundle);
+				resources.add(resource);
+				for (Capability capability : resource.getBundleCapabilities()) {
+					add(capability);
+				}
+			}
+		}
+
+		private void add(Capability capability) {
+			String namespace = capability.getNamespace();
+			byNamespace.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+			Object value = capability.getAttributes().get(namespace);
+			if (value instanceof String key) {
+				addKeyed(namespace, key, capability);
+			} else if (value instanceof Collection<?> values && values.stream().allMatch(String.class::isInstance)) {
+				values.stream().distinct().forEach(key -> addKeyed(namespace, (String) key, capability));
+			} else {
+				unkeyed.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+			}
+		}
+
+		private void addKeyed(String namespace, String key, Capability capability) {
+			byValue.computeIfAbsent(namespace, n -> new HashMap<>()).computeIfAbsent(key, k -> new ArrayList<>())
+					.add(capability);
+		}
+
+		boolean isFor(State other) {
+			return state == other && timeStamp == other.getTimeStamp();
+		}
+
+		List<BundleDescriptionRepositoryResource> resources() {
+			return resources;
+		}
+
+		/**
+		 * Returns the capabilities that may match the given requirement. These
+		 * are all capabilities of its namespace, unless its filter requires a
+		 * specific value of the namespace attribute.
+		 */
+		Stream<Capability> getCandidates(Requirement requirement) {
+			String namespace = requirement.getNamespace();
+			String key = getFilterKey(requirement);
+			if (key == null) {
+				return byNamespace.getOrDefault(namespace, List.of()).stream();
+			}
+			List<Capability> keyed = byValue.getOrDefault(namespace, Map.of()).getOrDefault(key, List.of());
+			return Stream.concat(keyed.stream(), unkeyed.getOrDefault(namespace, List.of()).stream());
+		}
+
+		/**
+		 * Returns the value the filter of the given requirement requires for
+		 * the attribute named like its namespace, if the filter is a simple
+		 * equality or a conjunction starting with one, <code>null</code>
+		 * otherwise.
+		 */
+		private static String getFilterKey(Requirement requirement) {
+			String filter = requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE);
+			if (filter == null) {
+				return null;
+			}
+			String term = '(' + requirement.getNamespace() + '=';
+			int start;
+			if (filter.startsWith(term)) {
+				start = term.length();
+			} else if (filter.startsWith("(&" + term)) { //$NON-NLS-1$
+				start = term.length() + 2;
+			} else {
+				return null;
+			}
+			int end = filter.indexOf(')', start);
+			if (end < 0) {
+				return null;
+			}
+			String value = filter.substring(start, end);
+			if (value.isEmpty() || value.indexOf('*') >= 0 || value.indexOf('\\') >= 0 || value.indexOf('(') >= 0
+					|| !value.equals(value.trim())) {
+				// wildcards, escapes and whitespace need the full filter match
+				return null;
+			}
+			return value;
+		}
+
+	}
+
+	/**
+	 * Provides the <code>osgi.content</code> capability of a bundle file. The
+	 * hash of the file is looked up in the {@link ContentHashStore} and the
+	 * capability is re-computed if the file changes.
+	 */
 	private static final class ContentCapabilityCache {
 
 		private final File file;
@@ -355,23 +532,20 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 		public synchronized Stream<Capability> capability() {
 			if (isOutDated()) {
+				// a file that cannot be hashed has no content capability
+				capability = null;
 				CapReqBuilder content = new CapReqBuilder(resource, ContentNamespace.CONTENT_NAMESPACE);
 				String sha;
 				try {
-					MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
 					if (file.isDirectory()) {
 						// directories can not really have a SHA-256 ...
+						MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
 						digest.update(file.getAbsolutePath().getBytes());
+						sha = HexFormat.of().formatHex(digest.digest());
 					} else {
-						try (DigestInputStream stream = new DigestInputStream(new FileInputStream(file), digest)) {
-							stream.readAllBytes();
-						} catch (IOException e) {
-							return Stream.empty();
-						}
+						sha = ContentHashStore.getDefault().getHash(file);
 					}
-					byte[] bytes = digest.digest();
-					sha = HexFormat.of().formatHex(bytes);
-				} catch (NoSuchAlgorithmException e) {
+				} catch (NoSuchAlgorithmException | IOException e) {
 					return Stream.empty();
 				}
 				content.addAttribute(ContentNamespace.CONTENT_NAMESPACE, sha);
@@ -385,7 +559,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				}
 				capability = content.buildCapability();
 			}
-			return Stream.of(capability);
+			return capability != null ? Stream.of(capability) : Stream.empty();
 		}
 
 		private boolean isOutDated() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2020 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,14 @@ public abstract class ErrorReporter {
 
 	public final void validateContent(IProgressMonitor monitor) {
 		validate(monitor);
+		applyMarkers();
+	}
+
+	/**
+	 * Replaces the markers of the validated file with the problems reported
+	 * by {@link #validate(IProgressMonitor)}.
+	 */
+	void applyMarkers() {
 		fErrorReporter.applyMarkers();
 	}
 
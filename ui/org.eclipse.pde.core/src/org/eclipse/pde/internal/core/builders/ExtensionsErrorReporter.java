@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -49,15 +50,11 @@ import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
-import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
-import org.eclipse.pde.internal.core.ischema.ISchemaObject;
-import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
 import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
 import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
-import org.eclipse.pde.internal.core.ischema.ISchemaType;
 import org.eclipse.pde.internal.core.project.PDEProject;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.util.CoreUtility;
@@ -78,6 +75,10 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	 */
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
+	/**
+	 * Whether the resources referenced by attributes exist, keyed by location
+	 */
+	private final Map<String, Boolean> fResourceExists = new HashMap<>();
 
 	public ExtensionsErrorReporter(IFile file) {
 		super(file);
@@ -192,7 +193,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		ISchemaElement schemaElement = schema.findElement(elementName);
 
 		// Validate element occurrence violations
-		if ((schemaElement != null) && (schemaElement.getType() instanceof ISchemaComplexType)) {
+		if ((schemaElement != null) && (schemaElement.getType() instanceof ISchemaComplexType)
+				&& SchemaContentModel.getModel(schemaElement.getSchema()).hasOccurrenceConstraints(schemaElement)) {
 			validateMaxElementMult(element, schemaElement);
 			validateMinElementMult(element, schemaElement);
 		}
@@ -216,9 +218,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		if (parentSchema != null) {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 			if (severity != CompilerFlags.IGNORE) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(parentSchema.getType(), allowedElements);
-				if (!allowedElements.contains(elementName)) {
+				SchemaContentModel contentModel = SchemaContentModel.getModel(parentSchema.getSchema());
+				if (!contentModel.getAllowedElements(parentSchema).contains(elementName)) {
 					reportIllegalElement(element, severity);
 					return;
 				}
@@ -309,36 +310,6 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	private void computeAllowedElements(ISchemaType type, HashSet<String> elementSet) {
-		if (type instanceof ISchemaComplexType complexType) {
-			ISchemaCompositor compositor = complexType.getCompositor();
-			if (compositor != null) {
-				computeAllowedElements(compositor, elementSet);
-			}
-
-			ISchemaAttribute[] attrs = complexType.getAttributes();
-			for (ISchemaAttribute attr : attrs) {
-				if (attr.getKind() == IMetaAttribute.JAVA) {
-					elementSet.add(attr.getName());
-				}
-			}
-		}
-	}
-
-	private void computeAllowedElements(ISchemaCompositor compositor, HashSet<String> elementSet) {
-		ISchemaObject[] children = compositor.getChildren();
-		for (ISchemaObject child : children) {
-			if (child instanceof ISchemaObjectReference ref) {
-				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
-				if (refElement != null) {
-					elementSet.add(refElement.getName());
-				}
-			} else if (child instanceof ISchemaCompositor) {
-				computeAllowedElements((ISchemaCompositor) child, elementSet);
-			}
-		}
-	}
-
 	private void validateRequiredExtensionAttributes(Element element, ISchemaElement schemaElement) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_NO_REQUIRED_ATT);
 		if (severity == CompilerFlags.IGNORE) {
@@ -370,9 +341,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			Attr attr = (Attr) attrs.item(i);
 			ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
 			if (attInfo == null) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(schemaElement.getType(), allowedElements);
-				if (allowedElements.contains(attr.getName())) {
+				SchemaContentModel contentModel = SchemaContentModel.getModel(schemaElement.getSchema());
+				if (contentModel.getAllowedElements(schemaElement).contains(attr.getName())) {
 					validateJavaAttribute(element, attr);
 				} else {
 					int flag = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ATTRIBUTE);
@@ -519,7 +489,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 
 	protected void validateResourceAttribute(Element element, Attr attr) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_RESOURCE);
-		if (severity != CompilerFlags.IGNORE && !resourceExists(attr.getValue())) {
+		if (severity != CompilerFlags.IGNORE
+				&& !fResourceExists.computeIfAbsent(attr.getValue(), this::resourceExists).booleanValue()) {
 			VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_resource, (new String[] {attr.getValue(), attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.CAT_OTHER);
 			addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_RESOURCE);
 		}
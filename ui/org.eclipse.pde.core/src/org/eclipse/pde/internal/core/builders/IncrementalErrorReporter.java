@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Julian Honnen
+ *  Copyright (c) 2018, 2026 Julian Honnen
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,7 @@ package org.eclipse.pde.internal.core.builders;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
@@ -80,47 +80,50 @@ public class IncrementalErrorReporter {
 			}
 		}
 
+		// count the reported markers by attributes to match existing ones in one pass
+		Map<Map<String, Object>, Integer> newMarkers = new LinkedHashMap<>();
+		for (VirtualMarker reportedMarker : fReportedMarkers) {
+			newMarkers.merge(reportedMarker.getAttributes(), 1, Integer::sum);
+		}
+
 		// iterate over existing markers to check which are resolved now
 		for (IMarker marker : existingMarkers) {
-			boolean resolved = true;
-			Map<String, Object> existingAttributes = null;
-
-			// Iterate over new markers to filter out all we already know
-			for (Iterator<VirtualMarker> it = fReportedMarkers.iterator(); it.hasNext();) {
-				VirtualMarker reportedMarker = it.next();
-				if (existingAttributes == null) {
-					try {
-						existingAttributes = marker.getAttributes();
-					} catch (Exception e) {
-						PDECore.logException(e);
-						// assume the marker is not accessible, can be deleted
-						break;
-					}
-				}
+			Map<String, Object> existingAttributes;
+			try {
+				existingAttributes = marker.getAttributes();
+			} catch (Exception e) {
+				PDECore.logException(e);
+				// assume the marker is not accessible, can be deleted
+				existingAttributes = null;
+			}
+
+			Integer count = existingAttributes == null ? null : newMarkers.get(existingAttributes);
+			if (count != null) {
 				// Same marker is found, no need to create again
-				if (reportedMarker.getAttributes().equals(existingAttributes)) {
-					resolved = false;
-					it.remove();
-					break;
+				if (count.intValue() == 1) {
+					newMarkers.remove(existingAttributes);
+				} else {
+					newMarkers.put(existingAttributes, count - 1);
 				}
+				continue;
 			}
 
 			// The marker was not reported again, the old one can be deleted
-			if (resolved) {
-				try {
-					marker.delete();
-				} catch (CoreException e) {
-					PDECore.logException(e);
-				}
+			try {
+				marker.delete();
+			} catch (CoreException e) {
+				PDECore.logException(e);
 			}
 		}
 
 		// Create only new markers
-		for (VirtualMarker reportedMarker : fReportedMarkers) {
-			try {
-				fResource.createMarker(fMarkerID, reportedMarker.getAttributes());
-			} catch (CoreException e) {
-				PDECore.logException(e);
+		for (Map.Entry<Map<String, Object>, Integer> newMarker : newMarkers.entrySet()) {
+			for (int i = 0; i < newMarker.getValue(); i++) {
+				try {
+					fResource.createMarker(fMarkerID, newMarker.getKey());
+				} catch (CoreException e) {
+					PDECore.logException(e);
+				}
 			}
 		}
 	}
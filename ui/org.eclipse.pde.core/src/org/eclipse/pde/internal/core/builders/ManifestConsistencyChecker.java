@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.io.FilenameFilter;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -346,16 +348,47 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		}
 		if (reporter != null) {
 			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
+		}
+		if (reporter != null && bundleReporter != null) {
+			// the extensions and the bundle manifest are independent of each other
+			XMLErrorReporter extensionsReporter = reporter;
+			CompletableFuture<Void> extensions = CompletableFuture.runAsync(() -> extensionsReporter.validate(monitor));
+			try {
+				bundleReporter.validate(monitor);
+			} finally {
+				join(extensions);
+			}
+		} else if (reporter != null) {
+			reporter.validate(monitor);
+		} else if (bundleReporter != null) {
+			bundleReporter.validate(monitor);
+		}
+		if (reporter != null || bundleReporter != null) {
 			monitor.subTask(PDECoreMessages.Builders_updating);
 		}
+		if (reporter != null) {
+			reporter.applyMarkers();
+		}
 		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			bundleReporter.applyMarkers();
 		}
 		monitor.done();
 	}
 
+	private static void join(CompletableFuture<Void> future) {
+		try {
+			future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
 	private void validateBuildProperties(IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
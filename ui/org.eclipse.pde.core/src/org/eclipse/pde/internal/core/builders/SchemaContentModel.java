@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.core.IModelChangedListener;
+import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+
+/**
+ * Content model of an extension point schema as needed to validate extensions,
+ * computed once per schema and shared by all files and builds validating
+ * against it.
+ * <p>
+ * The model only holds element names, so the schema it was computed from can
+ * be garbage collected. It is discarded when the schema or one of the schemas
+ * it includes is reloaded.
+ * </p>
+ */
+public final class SchemaContentModel {
+
+	private static final Map<ISchema, SchemaContentModel> fModels = new WeakHashMap<>();
+
+	/**
+	 * Discards the models of changed schemas and of the schemas including
+	 * them. A single listener is registered with all schemas, it must not
+	 * reference any schema, see class comment.
+	 */
+	private static final IModelChangedListener fSchemaListener = event -> {
+		Object schema = event.getChangeProvider();
+		synchronized (fModels) {
+			fModels.entrySet().removeIf(entry -> entry.getKey() == schema || entry.getValue().fIncludedSchemas.containsKey(schema));
+		}
+	};
+
+	/**
+	 * The schemas included by the schema, directly or indirectly, as keys of a
+	 * weak map
+	 */
+	private final Map<ISchema, Boolean> fIncludedSchemas = new WeakHashMap<>();
+
+	/**
+	 * Names of the child elements allowed in an element, keyed by element name
+	 */
+	private final Map<String, Set<String>> fAllowedElements = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether the children of an element may violate occurrence constraints,
+	 * keyed by element name
+	 */
+	private final Map<String, Boolean> fOccurrenceConstraints = new ConcurrentHashMap<>();
+
+	private SchemaContentModel() {
+	}
+
+	/**
+	 * Returns the content model of the given schema
+	 *
+	 * @param schema the schema
+	 * @return the shared content model, never <code>null</code>
+	 */
+	public static SchemaContentModel getModel(ISchema schema) {
+		synchronized (fModels) {
+			SchemaContentModel model = fModels.get(schema);
+			if (model != null) {
+				return model;
+			}
+		}
+		// included schemas may have to be loaded, do not hold the lock meanwhile
+		SchemaContentModel newModel = new SchemaContentModel();
+		addIncludedSchemas(schema, newModel.fIncludedSchemas);
+		// adding the listener has no effect if it is already registered
+		schema.addModelChangedListener(fSchemaListener);
+		for (ISchema included : newModel.fIncludedSchemas.keySet()) {
+			included.addModelChangedListener(fSchemaListener);
+		}
+		synchronized (fModels) {
+			return fModels.computeIfAbsent(schema, s -> newModel);
+		}
+	}
+
+	private static void addIncludedSchemas(ISchema schema, Map<ISchema, Boolean> includedSchemas) {
+		for (ISchemaInclude include : schema.getIncludes()) {
+			ISchema included = include.getIncludedSchema();
+			if (included != null && includedSchemas.put(included, Boolean.TRUE) == null) {
+				addIncludedSchemas(included, includedSchemas);
+			}
+		}
+	}
+
+	/**
+	 * Returns the names of the child elements allowed in the given schema
+	 * element, including the names of its Java attributes which may also be
+	 * specified as child elements.
+	 *
+	 * @param schemaElement the schema element
+	 * @return the allowed child element names, not to be modified
+	 */
+	public Set<String> getAllowedElements(ISchemaElement schemaElement) {
+		return fAllowedElements.computeIfAbsent(schemaElement.getName(), name -> {
+			Set<String> allowedElements = new HashSet<>();
+			computeAllowedElements(schemaElement.getType(), allowedElements);
+			return Collections.unmodifiableSet(allowedElements);
+		});
+	}
+
+	/**
+	 * Returns whether the children of an element of the given schema element
+	 * may violate the minimum or maximum occurrences defined by its
+	 * compositors, that is whether they need to be checked by the
+	 * {@link ElementOccurenceChecker}.
+	 *
+	 * @param schemaElement the schema element
+	 * @return <code>false</code> if no number of children can violate the
+	 *         occurrences of the schema element
+	 */
+	public boolean hasOccurrenceConstraints(ISchemaElement schemaElement) {
+		return fOccurrenceConstraints.computeIfAbsent(schemaElement.getName(), name -> {
+			if (schemaElement.getType() instanceof ISchemaComplexType complexType) {
+				return Boolean.valueOf(hasOccurrenceConstraints(complexType.getCompositor(), 1, 1));
+			}
+			return Boolean.FALSE;
+		}).booleanValue();
+	}
+
+	/**
+	 * Computes the occurrences of the elements of the given compositor the
+	 * same way as the {@link ElementOccurenceChecker}: a minimum of zero can
+	 * never be violated, nor can an unbounded maximum.
+	 */
+	private static boolean hasOccurrenceConstraints(ISchemaCompositor compositor, int minOccurs, int maxOccurs) {
+		if (compositor == null || (compositor.getKind() != ISchemaCompositor.CHOICE
+				&& compositor.getKind() != ISchemaCompositor.SEQUENCE)) {
+			return false;
+		}
+		minOccurs = multiply(minOccurs, compositor.getMinOccurs());
+		maxOccurs = multiply(maxOccurs, compositor.getMaxOccurs());
+		for (ISchemaObject child : compositor.getChildren()) {
+			if (child instanceof ISchemaElement element) {
+				if (multiply(minOccurs, element.getMinOccurs()) > 0
+						|| multiply(maxOccurs, element.getMaxOccurs()) < Integer.MAX_VALUE) {
+					return true;
+				}
+			} else if (child instanceof ISchemaCompositor childCompositor
+					&& hasOccurrenceConstraints(childCompositor, minOccurs, maxOccurs)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int multiply(int multiplicity, int occurs) {
+		// unbounded occurrences are represented by the maximum integer value
+		return multiplicity < Integer.MAX_VALUE ? occurs * multiplicity : multiplicity;
+	}
+
+	private static void computeAllowedElements(ISchemaType type, Set<String> elementSet) {
+		if (type instanceof ISchemaComplexType complexType) {
+			ISchemaCompositor compositor = complexType.getCompositor();
+			if (compositor != null) {
+				computeAllowedElements(compositor, elementSet);
+			}
+
+			ISchemaAttribute[] attrs = complexType.getAttributes();
+			for (ISchemaAttribute attr : attrs) {
+				if (attr.getKind() == IMetaAttribute.JAVA) {
+					elementSet.add(attr.getName());
+				}
+			}
+		}
+	}
+
+	private static void computeAllowedElements(ISchemaCompositor compositor, Set<String> elementSet) {
+		ISchemaObject[] children = compositor.getChildren();
+		for (ISchemaObject child : children) {
+			if (child instanceof ISchemaObjectReference ref) {
+				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
+				if (refElement != null) {
+					elementSet.add(refElement.getName());
+				}
+			} else if (child instanceof ISchemaCompositor) {
+				computeAllowedElements((ISchemaCompositor) child, elementSet);
+			}
+		}
+	}
+}
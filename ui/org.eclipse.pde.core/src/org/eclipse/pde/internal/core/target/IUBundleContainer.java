@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -318,11 +318,12 @@ public class IUBundleContainer extends AbstractBundleContainer {
 		// query for bundles
 		IFileArtifactRepository artifacts = null;
 		try {
-			if (P2TargetUtils.fgTargetArtifactRepo.containsKey(target)) {
-				artifacts = P2TargetUtils.fgTargetArtifactRepo.get(target);
-			} else {
-				artifacts = P2TargetUtils.getBundlePool();
-				P2TargetUtils.fgTargetArtifactRepo.put(target, artifacts);
+			// containers of the same target may be resolved concurrently
+			artifacts = P2TargetUtils.fgTargetArtifactRepo.get(target);
+			if (artifacts == null) {
+				IFileArtifactRepository pool = P2TargetUtils.getBundlePool();
+				IFileArtifactRepository previous = P2TargetUtils.fgTargetArtifactRepo.putIfAbsent(target, pool);
+				artifacts = previous != null ? previous : pool;
 			}
 		} catch (CoreException e) {
 			if (PDECore.DEBUG_TARGET_PROFILE) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,19 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +51,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -118,7 +127,13 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
+
+	/**
+	 * Maximum number of target locations resolved concurrently, can be set
+	 * with the <code>pde.target.resolve.threads</code> system property
+	 */
+	private static final int RESOLVE_THREADS = Math.max(1, Integer.getInteger("pde.target.resolve.threads", 4)); //$NON-NLS-1$
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -371,50 +386,62 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 		fResolutionStatus = null;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
+		ExecutorService executor = null;
+		ResolutionMonitor resolutionMonitor = new ResolutionMonitor();
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2, null);
-			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
+			List<ITargetLocation> locations = new ArrayList<>();
+			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new LinkedHashMap<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					locations.add(location);
 				} else {
-					// has to be performed later on in a separate batch
+					// has to be performed in a separate batch per synchronizer
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
-			if (!synchronizers.isEmpty()) {
-				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
-						.toList();
-				subMonitor.setWorkRemaining(synchronizers.size() * 100 + delayedLocations.size());
-				for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
-					subMonitor.checkCanceled();
-					try {
-						entry.getKey().synchronize(this, subMonitor.split(100));
-						entry.getValue().stream().map(loc -> loc.getStatus()).filter(Objects::nonNull)
-								.filter(s -> !s.isOK()).forEach(status::add);
-					} catch (CoreException e) {
-						PDECore.log(e.getStatus());
-						status.add(e.getStatus());
-					}
-				}
-				for (ITargetLocation location : delayedLocations) {
-					subMonitor.checkCanceled();
-					IStatus s = location.resolve(this, subMonitor.split(1));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+			// the usual locations and the p2 synchronizers are independent of
+			// each other and resolved concurrently, the results are collected
+			// in the original order
+			executor = Executors.newFixedThreadPool(Math.min(RESOLVE_THREADS, locations.size() + synchronizers.size()),
+					runnable -> {
+						Thread thread = new Thread(runnable, "Target location resolution"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			List<Future<IStatus>> resolutions = new ArrayList<>(locations.size());
+			for (ITargetLocation location : locations) {
+				resolutions.add(executor.submit(() -> location.resolve(this, resolutionMonitor)));
+			}
+			List<Future<Synchronization>> synchronizations = new ArrayList<>(synchronizers.size());
+			for (Entry<P2TargetUtils, List<ITargetLocation>> entry : synchronizers.entrySet()) {
+				synchronizations.add(executor.submit(() -> synchronize(entry.getKey(), entry.getValue(), resolutionMonitor)));
+			}
+			int delayedLocations = targetLocations.length - locations.size();
+			subMonitor.setWorkRemaining(locations.size() * 100 + synchronizers.size() * 100 + delayedLocations);
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			for (Future<IStatus> resolution : resolutions) {
+				IStatus s = await(resolution, subMonitor, resolutionMonitor);
+				if (!s.isOK()) {
+					status.add(s);
 				}
+				subMonitor.worked(100);
+			}
+			// problems of all synchronizations are reported before the
+			// problems of the locations resolved after them
+			List<IStatus> delayedStatus = new ArrayList<>();
+			for (Future<Synchronization> future : synchronizations) {
+				Synchronization synchronization = await(future, subMonitor, resolutionMonitor);
+				synchronization.synchronizationStatus().forEach(status::add);
+				delayedStatus.addAll(synchronization.resolutionStatus());
+				subMonitor.worked(100 + synchronization.resolutionStatus().size());
 			}
+			delayedStatus.stream().filter(s -> !s.isOK()).forEach(status::add);
 			if (status.isOK()) {
 				return fResolutionStatus = Status.OK_STATUS;
 			}
@@ -422,12 +449,110 @@ public class TargetDefinition implements ITargetDefinition {
 		} catch (OperationCanceledException e) {
 			return Status.CANCEL_STATUS;
 		} finally {
+			if (executor != null) {
+				resolutionMonitor.setCanceled(true);
+				executor.shutdownNow();
+				awaitTermination(executor);
+			}
 			// keep a list of resolved targets with key as handle
 			TargetPlatformHelper.addTargetDefinitionMap(this);
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * The problems found synchronizing a p2 synchronizer and the statuses of
+	 * resolving its locations afterwards, in the order of the locations.
+	 */
+	private record Synchronization(List<IStatus> synchronizationStatus, List<IStatus> resolutionStatus) {
+	}
+
+	/**
+	 * Synchronizes the given p2 synchronizer and resolves its locations
+	 * afterwards.
+	 */
+	private Synchronization synchronize(P2TargetUtils synchronizer, List<ITargetLocation> locations,
+			IProgressMonitor monitor) {
+		List<IStatus> synchronizationStatus = new ArrayList<>();
+		try {
+			synchronizer.synchronize(this, monitor);
+			locations.stream().map(loc -> loc.getStatus()).filter(Objects::nonNull).filter(s -> !s.isOK())
+					.forEach(synchronizationStatus::add);
+		} catch (CoreException e) {
+			PDECore.log(e.getStatus());
+			synchronizationStatus.add(e.getStatus());
+		}
+		List<IStatus> resolutionStatus = new ArrayList<>(locations.size());
+		for (ITargetLocation location : locations) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			resolutionStatus.add(location.resolve(this, monitor));
+		}
+		return new Synchronization(synchronizationStatus, resolutionStatus);
+	}
+
+	/**
+	 * Waits for the given resolution task to complete, regularly checking the
+	 * given monitor for cancellation.
+	 *
+	 * @throws OperationCanceledException if the monitor or the task was
+	 *             canceled
+	 */
+	private static <T> T await(Future<T> future, IProgressMonitor monitor, ResolutionMonitor resolutionMonitor) {
+		while (true) {
+			if (monitor.isCanceled()) {
+				resolutionMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException re) {
+					throw re;
+				}
+				if (e.getCause() instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	private static void awaitTermination(ExecutorService executor) {
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				// running locations check the monitor and stop soon
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Progress monitor passed to concurrently resolved locations. Progress is
+	 * reported on the calling thread as locations complete, so this monitor
+	 * only forwards cancellation.
+	 */
+	private static final class ResolutionMonitor extends NullProgressMonitor {
+		private volatile boolean fCanceled;
+
+		@Override
+		public boolean isCanceled() {
+			return fCanceled;
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			fCanceled = canceled;
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
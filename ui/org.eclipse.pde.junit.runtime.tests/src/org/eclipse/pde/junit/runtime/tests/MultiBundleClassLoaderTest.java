@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.junit.runtime.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.net.URL;
+import java.util.List;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.internal.junit.runtime.MultiBundleClassLoader;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+public class MultiBundleClassLoaderTest {
+
+	private static final Bundle RESOURCES = FrameworkUtil.getBundle(ResourcesPlugin.class);
+	private static final Bundle COMMON = FrameworkUtil.getBundle(IProgressMonitor.class);
+	private static final Bundle JUNIT_RUNTIME = FrameworkUtil.getBundle(MultiBundleClassLoader.class);
+
+	@Test
+	public void testClassIsLoadedByFirstBundle() throws Exception {
+		String name = IProgressMonitor.class.getName();
+		for (List<Bundle> bundles : List.of(List.of(RESOURCES, COMMON), List.of(COMMON, RESOURCES))) {
+			ClassLoader loader = new MultiBundleClassLoader(bundles);
+			assertThat(loader.loadClass(name)).isSameAs(bundles.get(0).loadClass(name));
+		}
+	}
+
+	@Test
+	public void testResourceIsFoundInFirstBundle() throws Exception {
+		String name = "plugin.properties";
+		for (List<Bundle> bundles : List.of(List.of(RESOURCES, COMMON), List.of(COMMON, RESOURCES))) {
+			ClassLoader loader = new MultiBundleClassLoader(bundles);
+			URL expected = FileLocator.resolve(bundles.get(0).getResource(name));
+			assertThat(loader.getResource(name)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void testClassIsLoadedByLaterBundle() throws Exception {
+		// the first bundle only sees its own packages
+		String name = ResourcesPlugin.class.getName();
+		ClassLoader loader = new MultiBundleClassLoader(List.of(COMMON, RESOURCES));
+		assertThat(loader.loadClass(name)).isSameAs(ResourcesPlugin.class);
+	}
+
+	@Test
+	public void testBundleWithDynamicImports() throws Exception {
+		// the first bundle may see any package, all bundles are asked in turn
+		String name = IProgressMonitor.class.getName();
+		ClassLoader loader = new MultiBundleClassLoader(List.of(JUNIT_RUNTIME, RESOURCES, COMMON));
+		assertThat(loader.loadClass(name)).isSameAs(JUNIT_RUNTIME.loadClass(name));
+		assertThat(loader.loadClass(ResourcesPlugin.class.getName())).isSameAs(ResourcesPlugin.class);
+	}
+
+	@Test
+	public void testMissingClassIsLookedUpAgain() {
+		ClassLoader loader = new MultiBundleClassLoader(List.of(RESOURCES, COMMON));
+		String name = "org.eclipse.core.runtime.DoesNotExist";
+		assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> loader.loadClass(name));
+		assertThatExceptionOfType(ClassNotFoundException.class).isThrownBy(() -> loader.loadClass(name));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018, 2023 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,24 +16,118 @@ package org.eclipse.pde.internal.junit.runtime;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleRequirement;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
 
-class MultiBundleClassLoader extends ClassLoader {
+public class MultiBundleClassLoader extends ClassLoader {
 	private final List<Bundle> bundleList;
 
+	/**
+	 * The first bundle of the list that can see a package, i.e. the bundle that
+	 * is asked first for its classes and resources. Only contains packages for
+	 * which no earlier bundle may see the package: the index is built up to
+	 * the first bundle whose visible packages cannot be determined in advance,
+	 * all other packages are looked up in all bundles in list order.
+	 */
+	private final Map<String, Bundle> packageIndex = new HashMap<>();
+
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
 		this.bundleList = platformEngineBundles;
+		indexVisiblePackages();
+	}
+
+	private void indexVisiblePackages() {
+		for (Bundle bundle : bundleList) {
+			BundleWiring wiring = bundle.adapt(BundleWiring.class);
+			if (wiring == null || hasDynamicImports(wiring)) {
+				// may see any package, so no later bundle can be asked first
+				return;
+			}
+			Set<String> packages = new HashSet<>();
+			for (String resource : wiring.listResources("/", "*", BundleWiring.LISTRESOURCES_LOCAL | BundleWiring.LISTRESOURCES_RECURSE)) { //$NON-NLS-1$ //$NON-NLS-2$
+				packages.add(getPackageName(resource, '/').replace('/', '.'));
+			}
+			for (BundleWire wire : wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE)) {
+				addPackageName(wire.getCapability(), packages);
+			}
+			addRequiredBundlePackages(wiring, packages, new HashSet<>());
+			for (String packageName : packages) {
+				// the first bundle in the list takes precedence
+				packageIndex.putIfAbsent(packageName, bundle);
+			}
+		}
+	}
+
+	private static boolean hasDynamicImports(BundleWiring wiring) {
+		for (BundleRequirement requirement : wiring.getRevision().getDeclaredRequirements(PackageNamespace.PACKAGE_NAMESPACE)) {
+			if (PackageNamespace.RESOLUTION_DYNAMIC.equals(requirement.getDirectives().get(PackageNamespace.REQUIREMENT_RESOLUTION_DIRECTIVE))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the packages exported by the bundles required by the given wiring,
+	 * including the ones re-exported by them
+	 */
+	private static void addRequiredBundlePackages(BundleWiring wiring, Collection<String> packages, Set<BundleWiring> visited) {
+		for (BundleWire wire : wiring.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+			BundleWiring provider = wire.getProviderWiring();
+			if (provider == null || !visited.add(provider)) {
+				continue;
+			}
+			for (BundleCapability capability : provider.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
+				addPackageName(capability, packages);
+			}
+			for (BundleWire reexported : provider.getRequiredWires(BundleNamespace.BUNDLE_NAMESPACE)) {
+				if (BundleNamespace.VISIBILITY_REEXPORT.equals(reexported.getRequirement().getDirectives().get(BundleNamespace.REQUIREMENT_VISIBILITY_DIRECTIVE))) {
+					addRequiredBundlePackages(provider, packages, visited);
+					break;
+				}
+			}
+		}
+	}
+
+	private static void addPackageName(BundleCapability capability, Collection<String> packages) {
+		Object packageName = capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+		if (packageName instanceof String) {
+			packages.add((String) packageName);
+		}
 	}
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
+		Bundle indexed = packageIndex.get(getPackageName(name, '.'));
+		if (indexed != null) {
+			try {
+				Class<?> c = indexed.loadClass(name);
+				if (c != null) {
+					return c;
+				}
+			} catch (ClassNotFoundException e) {
+			}
+		}
 		for (Bundle temp : bundleList) {
+			if (temp == indexed) {
+				continue;
+			}
 			try {
 				Class<?> c = temp.loadClass(name);
 				if (c != null) {
@@ -47,16 +141,26 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected URL findResource(String name) {
-		for (Bundle temp : bundleList) {
-			URL url = temp.getResource(name);
-			if (url != null) {
-				try {
-					return FileLocator.resolve(url);
-				} catch (IOException e) {
-					return null;
+		Bundle indexed = packageIndex.get(getPackageName(name, '/').replace('/', '.'));
+		URL url = indexed != null ? indexed.getResource(name) : null;
+		if (url == null) {
+			for (Bundle temp : bundleList) {
+				if (temp == indexed) {
+					continue;
+				}
+				url = temp.getResource(name);
+				if (url != null) {
+					break;
 				}
 			}
 		}
+		if (url != null) {
+			try {
+				return FileLocator.resolve(url);
+			} catch (IOException e) {
+				return null;
+			}
+		}
 		return null;
 	}
 
@@ -71,4 +175,9 @@ class MultiBundleClassLoader extends ClassLoader {
 		}
 		return Collections.enumeration(merged);
 	}
-}
\ No newline at end of file
+
+	private static String getPackageName(String name, char separator) {
+		int index = name.lastIndexOf(separator);
+		return index == -1 ? "" : name.substring(0, index); //$NON-NLS-1$
+	}
+}
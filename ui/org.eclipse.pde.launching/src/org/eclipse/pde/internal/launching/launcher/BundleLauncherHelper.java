@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -112,29 +112,44 @@ public class BundleLauncherHelper {
 
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
-
 			migrateLaunchConfiguration(wc);
+		} else {
+			migrateOsgiLaunchConfiguration(wc);
+		}
 
-			if (wc.getAttribute(IPDELauncherConstants.USE_DEFAULT, true)) {
-				Map<IPluginModelBase, String> map = new LinkedHashMap<>();
-				for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
-					if (!isFragmentForOtherPlatform(model)) { // Filter out platform-specific fragments that cannot resolve
-						addBundleToMap(map, model, DEFAULT_START_LEVELS);
-					}
-				}
-				if (features != null) {
-					ITargetDefinition target = PDECore.getDefault().acquireService(ITargetPlatformService.class).getWorkspaceTargetDefinition();
-					FeatureModelManager fmm = PDECore.getDefault().getFeatureModelManager();
-					Stream.concat(Arrays.stream(fmm.getWorkspaceModels()), Arrays.stream(fmm.getExternalModels()))//
-							.map(m -> m.getFeature())//
-							.filter(f -> f.matchesEnvironment(target))//
-							.forEach(f -> features.put(f, Boolean.FALSE));
+		LaunchBundleCache cache = LaunchBundleCache.getDefault();
+		LaunchBundleCache.Key key = cache.createKey(wc, osgi, features != null);
+		LaunchBundleCache.Entry entry = cache.get(key);
+		if (entry == null) {
+			Map<IFeature, Boolean> launchFeatures = features != null ? new LinkedHashMap<>() : null;
+			Map<IPluginModelBase, String> bundles = computeMergedBundleMap(configuration, wc, osgi, launchFeatures);
+			entry = new LaunchBundleCache.Entry(bundles, launchFeatures);
+			cache.put(key, entry);
+		}
+		if (features != null) {
+			features.putAll(entry.features());
+		}
+		return new LinkedHashMap<>(entry.bundles());
+	}
+
+	private static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, ILaunchConfigurationWorkingCopy wc, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+
+		if (!osgi && wc.getAttribute(IPDELauncherConstants.USE_DEFAULT, true)) {
+			Map<IPluginModelBase, String> map = new LinkedHashMap<>();
+			for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
+				if (!isFragmentForOtherPlatform(model)) { // Filter out platform-specific fragments that cannot resolve
+					addBundleToMap(map, model, DEFAULT_START_LEVELS);
 				}
-				return map;
 			}
-
-		} else {
-			migrateOsgiLaunchConfiguration(wc);
+			if (features != null) {
+				ITargetDefinition target = PDECore.getDefault().acquireService(ITargetPlatformService.class).getWorkspaceTargetDefinition();
+				FeatureModelManager fmm = PDECore.getDefault().getFeatureModelManager();
+				Stream.concat(Arrays.stream(fmm.getWorkspaceModels()), Arrays.stream(fmm.getExternalModels()))//
+						.map(m -> m.getFeature())//
+						.filter(f -> f.matchesEnvironment(target))//
+						.forEach(f -> features.put(f, Boolean.FALSE));
+			}
+			return map;
 		}
 
 		if (wc.getAttribute(IPDELauncherConstants.USE_CUSTOM_FEATURES, false)) {
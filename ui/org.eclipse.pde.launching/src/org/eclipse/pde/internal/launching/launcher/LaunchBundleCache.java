@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
+
+/**
+ * Caches the bundles and start levels computed for launch configurations by
+ * {@link BundleLauncherHelper#getMergedBundleMap(ILaunchConfiguration, boolean, Map)}.
+ * <p>
+ * Entries are keyed by the attributes of the launch configuration and are
+ * discarded on any change of the plug-in or feature models, which includes
+ * reloading the target platform.
+ * </p>
+ */
+public class LaunchBundleCache implements IPluginModelListener, IFeatureModelListener {
+
+	/**
+	 * Maximum number of launch configurations whose bundles are cached
+	 */
+	private static final int MAX_ENTRIES = 16;
+
+	private static LaunchBundleCache fInstance;
+
+	record Key(String name, Map<String, Object> attributes, boolean osgi, boolean withFeatures, long generation) {
+	}
+
+	record Entry(Map<IPluginModelBase, String> bundles, Map<IFeature, Boolean> features) {
+	}
+
+	private final Map<Key, Entry> fEntries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Incremented on every model change, so that results computed from the
+	 * previous models are not cached anymore
+	 */
+	private long fGeneration;
+
+	private LaunchBundleCache() {
+		PDECore.getDefault().getModelManager().addPluginModelListener(this);
+		PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(this);
+	}
+
+	public static synchronized LaunchBundleCache getDefault() {
+		if (fInstance == null) {
+			fInstance = new LaunchBundleCache();
+		}
+		return fInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fInstance != null) {
+			PDECore.getDefault().getModelManager().removePluginModelListener(fInstance);
+			PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(fInstance);
+			fInstance = null;
+		}
+	}
+
+	synchronized Key createKey(ILaunchConfiguration configuration, boolean osgi, boolean withFeatures) throws CoreException {
+		return new Key(configuration.getName(), configuration.getAttributes(), osgi, withFeatures, fGeneration);
+	}
+
+	synchronized Entry get(Key key) {
+		Entry entry = fEntries.get(key);
+		if (PDELaunchingPlugin.DEBUG_LAUNCH_BUNDLES) {
+			if (entry != null) {
+				System.out.println("Launch bundle cache hit for " + key.name() + ": " + entry.bundles().size() + " bundles"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			} else {
+				System.out.println("Launch bundle cache miss for " + key.name()); //$NON-NLS-1$
+			}
+		}
+		return entry;
+	}
+
+	synchronized void put(Key key, Entry entry) {
+		if (key.generation() == fGeneration) {
+			fEntries.put(key, entry);
+		}
+	}
+
+	public synchronized void clear() {
+		fGeneration++;
+		fEntries.clear();
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		clear();
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		clear();
+	}
+}
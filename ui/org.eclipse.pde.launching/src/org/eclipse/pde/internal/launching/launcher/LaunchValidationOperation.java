@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2023 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -58,7 +58,8 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
-		fOperation = new BundleValidationOperation(fModels, getPlatformProperties());
+		// reuse the validation state of a previous launch of the same bundles
+		fOperation = new BundleValidationOperation(fModels, getPlatformProperties(), fLaunchConfiguration != null);
 		fOperation.run(monitor);
 	}
 
@@ -138,7 +139,7 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.getState().getBundles().length == 0;
 	}
 
 	protected State getState() {
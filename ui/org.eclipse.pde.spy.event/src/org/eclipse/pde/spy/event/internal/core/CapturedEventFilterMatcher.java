@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,14 @@ import org.eclipse.pde.spy.event.internal.model.Parameter;
 import org.eclipse.pde.spy.event.internal.model.SpecialValue;
 
 public class CapturedEventFilterMatcher {
+	/**
+	 * Matches a topic filter against the topic of an event, so events can be
+	 * rejected before they are captured
+	 */
+	public boolean matchesTopic(String topic, CapturedEventFilter filter) {
+		return matches(filter.getValue(), topic, filter.getOperator());
+	}
+
 	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
 		Object value = getItemToFilterValue(event, filter.getItemToFilter());
 
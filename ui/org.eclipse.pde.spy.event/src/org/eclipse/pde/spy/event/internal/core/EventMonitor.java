@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -23,19 +29,43 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
 	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
+		/**
+		 * Called from the publishing thread when captured events become
+		 * available, at most once until they are retrieved with
+		 * {@link EventMonitor#drainEvents()}
+		 */
+		void newEventsAvailable();
 	}
 
-	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
-			UIEventPublisher.class.getName().hashCode());
+	/**
+	 * Maximum number of captured events kept until they are drained, older
+	 * events are dropped when more are captured
+	 */
+	private static final int BUFFER_SIZE = 4096;
 
-	private Collection<CapturedEventFilter> filters;
+	/**
+	 * Maximum number of stack frames inspected to find the publisher of an
+	 * event
+	 */
+	private static final int MAX_PUBLISHER_FRAMES = 64;
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	private static final Set<String> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName(),
+			UIEventPublisher.class.getName());
+
+	/**
+	 * The filters to apply, cheapest first: topic filters are checked on the
+	 * raw event, publisher filters only once all others matched
+	 */
+	private volatile List<CapturedEventFilter> filters = Collections.emptyList();
 
 	private final IEventBroker eventBroker;
 
@@ -43,14 +73,19 @@ public class EventMonitor {
 
 	private CapturedEventFilterMatcher eventFilterMatcher;
 
+	private final CapturedEvent[] buffer = new CapturedEvent[BUFFER_SIZE];
+
+	private int bufferStart;
+
+	private int bufferCount;
+
 	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
+		if (listener == null || !matchesTopicFilters(event.getTopic())) {
 			return;
 		}
 
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
 
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
@@ -61,7 +96,7 @@ public class EventMonitor {
 		}
 
 		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
+			capture(capturedEvent);
 		}
 	};
 
@@ -70,7 +105,10 @@ public class EventMonitor {
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+		List<CapturedEventFilter> sorted = new ArrayList<>(filters != null ? filters : List.of());
+		// all filters have to match, so their order only affects the cost
+		sorted.sort(Comparator.comparingInt(EventMonitor::getFilterCost));
+		this.filters = sorted;
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
@@ -82,31 +120,108 @@ public class EventMonitor {
 		this.listener = listener;
 	}
 
+	/**
+	 * Returns the events captured since the last call, oldest first
+	 *
+	 * @return the captured events, may be empty
+	 */
+	public synchronized List<CapturedEvent> drainEvents() {
+		List<CapturedEvent> events = new ArrayList<>(bufferCount);
+		for (int i = 0; i < bufferCount; i++) {
+			int index = (bufferStart + i) % BUFFER_SIZE;
+			events.add(buffer[index]);
+			buffer[index] = null;
+		}
+		bufferStart = 0;
+		bufferCount = 0;
+		return events;
+	}
+
+	private void capture(CapturedEvent event) {
+		boolean notify;
+		synchronized (this) {
+			notify = bufferCount == 0;
+			if (bufferCount == BUFFER_SIZE) {
+				// drop the oldest event
+				buffer[bufferStart] = event;
+				bufferStart = (bufferStart + 1) % BUFFER_SIZE;
+			} else {
+				buffer[(bufferStart + bufferCount) % BUFFER_SIZE] = event;
+				bufferCount++;
+			}
+		}
+		NewEventListener l = listener;
+		if (notify && l != null) {
+			l.newEventsAvailable();
+		}
+	}
+
+	private static int getFilterCost(CapturedEventFilter filter) {
+		ItemToFilter item = filter.getItemToFilter();
+		if (ItemToFilter.Topic.equals(item)) {
+			return 0;
+		}
+		if (ItemToFilter.Publisher.equals(item)) {
+			return 2;
+		}
+		return 1;
+	}
+
+	private boolean matchesTopicFilters(String topic) {
+		for (CapturedEventFilter filter : filters) {
+			if (!ItemToFilter.Topic.equals(filter.getItemToFilter())) {
+				break;
+			}
+			if (!getEventFilterMatcher().matchesTopic(topic, filter)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Applies the filters other than the topic filters, the publisher of the
+	 * event is computed once they all matched
+	 */
 	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+		boolean hasPublisher = false;
+		for (CapturedEventFilter filter : filters) {
+			ItemToFilter item = filter.getItemToFilter();
+			if (ItemToFilter.Topic.equals(item)) {
+				continue;
+			}
+			if (!hasPublisher && ItemToFilter.Publisher.equals(item)) {
+				event.setPublisherClassName(getPublisherClassName());
+				hasPublisher = true;
+			}
+			if (!getEventFilterMatcher().matches(event, filter)) {
+				return false;
 			}
 		}
+		if (!hasPublisher) {
+			event.setPublisherClassName(getPublisherClassName());
+		}
 		return true;
 	}
 
-	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
+	private static String getPublisherClassName() {
+		return STACK_WALKER.walk(EventMonitor::findPublisher)
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber()))
+				.orElse(""); //$NON-NLS-1$
+	}
 
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
+	private static Optional<StackFrame> findPublisher(Stream<StackFrame> frames) {
+		String eventBrokerName = EventBroker.class.getName();
+		boolean[] foundEventBroker = new boolean[1];
+		return frames.limit(MAX_PUBLISHER_FRAMES).filter(frame -> {
+			String clsName = frame.getClassName();
+			if (!foundEventBroker[0]) {
+				foundEventBroker[0] = clsName.equals(eventBrokerName);
+				return false;
 			}
-		}
-		return ""; //$NON-NLS-1$
+			return !EVENT_HELPER_CLASSES.contains(clsName);
+		}).findFirst();
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
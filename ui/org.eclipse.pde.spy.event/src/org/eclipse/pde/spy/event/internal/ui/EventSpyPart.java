@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
@@ -169,6 +170,9 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
 			eventMonitor.setNewEventListener(this);
+		} else {
+			// forget the events of the previous capture not shown yet
+			eventMonitor.drainEvents();
 		}
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
@@ -182,8 +186,21 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 	}
 
 	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	public void newEventsAvailable() {
+		// events are added in batches by a single update of the tree
+		if (!outer.isDisposed()) {
+			outer.getDisplay().asyncExec(this::addCapturedEvents);
+		}
+	}
+
+	private void addCapturedEvents() {
+		if (eventMonitor == null || capturedEventTree.getControl().isDisposed()) {
+			return;
+		}
+		List<CapturedEvent> events = eventMonitor.drainEvents();
+		if (!events.isEmpty()) {
+			capturedEventTree.addEvents(events);
+		}
 	}
 
 	@SuppressWarnings("restriction")
@@ -1,5 +1,7 @@
 package org.eclipse.pde.core.tests.internal;
 
+import org.eclipse.pde.core.tests.internal.core.bnd.BndBuilderTest;
+import org.eclipse.pde.core.tests.internal.core.bnd.ContentHashStoreTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -9,6 +11,8 @@ import org.junit.runners.Suite.SuiteClasses;
 	DependencyManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
+	ContentHashStoreTest.class, //
+	BndBuilderTest.class, //
 })
 public class AllPDECoreTests {
 }
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.bnd;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.pde.internal.core.bnd.BndBuilder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import aQute.bnd.osgi.Builder;
+
+public class BndBuilderTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File library;
+	private File instructions;
+
+	@Before
+	public void setUp() throws Exception {
+		library = folder.newFile("library.jar");
+		Files.writeString(library.toPath(), "first");
+		instructions = folder.newFile("sub.bnd");
+		Files.writeString(instructions.toPath(), "-classpath: library.jar\n");
+	}
+
+	@Test
+	public void testUnchangedInputs() throws Exception {
+		try (Builder builder = newBuilder()) {
+			assertThat(BndBuilder.digestInputs(builder, 1, 1)).isEqualTo(BndBuilder.digestInputs(builder, 1, 1));
+		}
+	}
+
+	@Test
+	public void testChangedClasspathChangesInputs() throws Exception {
+		try (Builder builder = newBuilder()) {
+			// the library is not on the classpath until the builder is built
+			String inputs = BndBuilder.digestInputs(builder, 1, 1);
+			Files.writeString(library.toPath(), "other content");
+			library.setLastModified(library.lastModified() + 10_000);
+			assertThat(BndBuilder.digestInputs(builder, 1, 1)).isNotEqualTo(inputs);
+		}
+	}
+
+	@Test
+	public void testChangedClassesChangeInputs() throws Exception {
+		try (Builder builder = newBuilder()) {
+			String inputs = BndBuilder.digestInputs(builder, 1, 1);
+			assertThat(BndBuilder.digestInputs(builder, 2, 1)).isNotEqualTo(inputs);
+			assertThat(BndBuilder.digestInputs(builder, 1, 2)).isNotEqualTo(inputs);
+		}
+	}
+
+	private Builder newBuilder() throws Exception {
+		Builder builder = new Builder();
+		builder.setProperties(instructions);
+		return builder;
+	}
+}
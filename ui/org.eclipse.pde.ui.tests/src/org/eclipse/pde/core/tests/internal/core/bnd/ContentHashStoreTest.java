@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.bnd;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import org.eclipse.pde.internal.core.bnd.ContentHashStore;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ContentHashStoreTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File storeFile;
+	private File bundle;
+
+	@Before
+	public void setUp() throws Exception {
+		storeFile = new File(folder.getRoot(), ".content_hashes");
+		bundle = folder.newFile("bundle.jar");
+	}
+
+	@Test
+	public void testHash() throws Exception {
+		// larger than the read buffer
+		byte[] content = new byte[200_000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		Files.write(bundle.toPath(), content);
+		assertThat(new ContentHashStore(storeFile).getHash(bundle)).isEqualTo(sha256(content));
+		assertThat(new ContentHashStore(null).getHash(bundle)).isEqualTo(sha256(content));
+	}
+
+	@Test
+	public void testHashesAreReloaded() throws Exception {
+		long lastModified = write("first");
+		ContentHashStore store = new ContentHashStore(storeFile);
+		String hash = store.getHash(bundle);
+		store.save();
+		assertThat(storeFile).isFile();
+
+		// same size and modification time, so the stored hash is still valid
+		write("other");
+		bundle.setLastModified(lastModified);
+		assertThat(new ContentHashStore(storeFile).getHash(bundle)).isEqualTo(hash);
+	}
+
+	@Test
+	public void testChangedFileIsHashedAgain() throws Exception {
+		long lastModified = write("first");
+		ContentHashStore store = new ContentHashStore(storeFile);
+		store.getHash(bundle);
+		store.save();
+
+		write("other");
+		bundle.setLastModified(lastModified + 10_000);
+		String hash = new ContentHashStore(storeFile).getHash(bundle);
+		assertThat(hash).isEqualTo(sha256("other".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testCorruptStoreIsIgnored() throws Exception {
+		write("first");
+		Files.writeString(storeFile.toPath(), "corrupt");
+		ContentHashStore store = new ContentHashStore(storeFile);
+		assertThat(store.getHash(bundle)).isEqualTo(sha256("first".getBytes(StandardCharsets.UTF_8)));
+		store.save();
+
+		write("other");
+		bundle.setLastModified(bundle.lastModified() + 10_000);
+		assertThat(new ContentHashStore(storeFile).getHash(bundle))
+				.isEqualTo(sha256("other".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testDeletedFilesAreForgotten() throws Exception {
+		long lastModified = write("first");
+		ContentHashStore store = new ContentHashStore(storeFile);
+		String hash = store.getHash(bundle);
+		assertThat(bundle.delete()).isTrue();
+		store.save();
+
+		// a new file at the same location is hashed again
+		write("other");
+		bundle.setLastModified(lastModified);
+		assertThat(new ContentHashStore(storeFile).getHash(bundle)).isNotEqualTo(hash);
+	}
+
+	private long write(String content) throws Exception {
+		Files.writeString(bundle.toPath(), content);
+		return bundle.lastModified();
+	}
+
+	private static String sha256(byte[] content) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+	}
+}
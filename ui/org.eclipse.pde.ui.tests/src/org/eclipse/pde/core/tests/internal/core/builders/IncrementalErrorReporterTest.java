@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalErrorReporterTest {
+
+	private IFile file;
+
+	@Before
+	public void setup() throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName());
+		project.create(null);
+		project.open(null);
+		file = project.getFile("plugin.xml");
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (file.getProject().exists()) {
+			file.getProject().delete(true, null);
+		}
+	}
+
+	@Test
+	public void testMarkersAreCreated() throws Exception {
+		IncrementalErrorReporter reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("first", 1, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.addMarker("second", 2, IMarker.SEVERITY_WARNING, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+		assertThat(reporter.getErrorCount()).isEqualTo(1);
+		assertThat(getMessages()).containsExactlyInAnyOrder("first", "second");
+	}
+
+	@Test
+	public void testUnchangedMarkersAreKept() throws Exception {
+		IncrementalErrorReporter reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("kept", 1, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.addMarker("resolved", 2, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+		IMarker kept = findMarker("kept");
+
+		reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("kept", 1, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.addMarker("new", 3, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+		assertThat(getMessages()).containsExactlyInAnyOrder("kept", "new");
+		assertThat(findMarker("kept").getId()).isEqualTo(kept.getId());
+	}
+
+	@Test
+	public void testDuplicateMarkersAreCounted() throws Exception {
+		IncrementalErrorReporter reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("duplicate", 1, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.addMarker("duplicate", 1, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+		assertThat(getMessages()).containsExactly("duplicate", "duplicate");
+
+		reporter = new IncrementalErrorReporter(file);
+		reporter.addMarker("duplicate", 1, IMarker.SEVERITY_ERROR, PDEMarkerFactory.NO_RESOLUTION, PDEMarkerFactory.CAT_OTHER);
+		reporter.applyMarkers();
+		assertThat(getMessages()).containsExactly("duplicate");
+
+		reporter = new IncrementalErrorReporter(file);
+		reporter.applyMarkers();
+		assertThat(getMessages()).isEmpty();
+	}
+
+	private IMarker findMarker(String message) throws CoreException {
+		for (IMarker marker : file.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO)) {
+			if (message.equals(marker.getAttribute(IMarker.MESSAGE, null))) {
+				return marker;
+			}
+		}
+		throw new AssertionError("No marker " + message);
+	}
+
+	private List<String> getMessages() throws CoreException {
+		return Arrays.stream(file.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_ZERO))
+				.map(m -> m.getAttribute(IMarker.MESSAGE, null)).toList();
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.pde.internal.core.builders.SchemaContentModel;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.schema.Schema;
+import org.eclipse.pde.internal.core.schema.SchemaInclude;
+import org.junit.Test;
+
+public class SchemaContentModelTest {
+
+	private static final String SCHEMA = """
+			<?xml version='1.0' encoding='UTF-8'?>
+			<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+				<element name="extension">
+					<complexType>
+						<sequence>
+							<element ref="item" minOccurs="1" maxOccurs="unbounded"/>
+						</sequence>
+						<attribute name="point" type="string" use="required"/>
+					</complexType>
+				</element>
+				<element name="item">
+					<complexType>
+						<sequence minOccurs="0" maxOccurs="unbounded">
+							<element ref="child"/>
+						</sequence>
+						<attribute name="class" type="string">
+							<annotation>
+								<appinfo>
+									<meta.attribute kind="java"/>
+								</appinfo>
+							</annotation>
+						</attribute>
+					</complexType>
+				</element>
+				<element name="child">
+					<complexType>
+						<attribute name="id" type="string"/>
+					</complexType>
+				</element>
+			</schema>
+			""";
+
+	@Test
+	public void testAllowedElements() {
+		Schema schema = createSchema();
+		SchemaContentModel model = SchemaContentModel.getModel(schema);
+		assertThat(model.getAllowedElements(findElement(schema, "extension"))).containsExactly("item");
+		assertThat(model.getAllowedElements(findElement(schema, "item"))).containsExactlyInAnyOrder("child",
+				"class");
+		assertThat(model.getAllowedElements(findElement(schema, "child"))).isEmpty();
+	}
+
+	@Test
+	public void testOccurrenceConstraints() {
+		Schema schema = createSchema();
+		SchemaContentModel model = SchemaContentModel.getModel(schema);
+		// at least one item is required
+		assertThat(model.hasOccurrenceConstraints(findElement(schema, "extension"))).isTrue();
+		// any number of children is allowed
+		assertThat(model.hasOccurrenceConstraints(findElement(schema, "item"))).isFalse();
+		// no children at all
+		assertThat(model.hasOccurrenceConstraints(findElement(schema, "child"))).isFalse();
+	}
+
+	@Test
+	public void testModelIsShared() {
+		Schema schema = createSchema();
+		assertThat(SchemaContentModel.getModel(schema)).isSameAs(SchemaContentModel.getModel(schema));
+		assertThat(SchemaContentModel.getModel(createSchema())).isNotSameAs(SchemaContentModel.getModel(schema));
+	}
+
+	@Test
+	public void testModelIsDiscardedOnReload() {
+		Schema schema = createSchema();
+		SchemaContentModel model = SchemaContentModel.getModel(schema);
+		schema.reload(new ByteArrayInputStream(SCHEMA.getBytes(StandardCharsets.UTF_8)));
+		SchemaContentModel reloaded = SchemaContentModel.getModel(schema);
+		assertThat(reloaded).isNotSameAs(model);
+		// the model must still be discarded when the schema is reloaded again
+		schema.reload(new ByteArrayInputStream(SCHEMA.getBytes(StandardCharsets.UTF_8)));
+		assertThat(SchemaContentModel.getModel(schema)).isNotSameAs(reloaded);
+	}
+
+	@Test
+	public void testModelIsDiscardedOnReloadOfIncludedSchema() {
+		Schema included = createSchema();
+		Schema schema = createSchema();
+		schema.addInclude(new SchemaInclude(schema, "included.exsd", false, (descriptor, location) -> included));
+		SchemaContentModel model = SchemaContentModel.getModel(schema);
+		SchemaContentModel includedModel = SchemaContentModel.getModel(included);
+		included.reload(new ByteArrayInputStream(SCHEMA.getBytes(StandardCharsets.UTF_8)));
+		assertThat(SchemaContentModel.getModel(schema)).isNotSameAs(model);
+		assertThat(SchemaContentModel.getModel(included)).isNotSameAs(includedModel);
+	}
+
+	private static Schema createSchema() {
+		Schema schema = new Schema("test", "test.point", "Test", false);
+		schema.load(new ByteArrayInputStream(SCHEMA.getBytes(StandardCharsets.UTF_8)));
+		schema.setNotificationEnabled(true);
+		assertThat(schema.isLoaded()).isTrue();
+		return schema;
+	}
+
+	private static ISchemaElement findElement(Schema schema, String name) {
+		ISchemaElement element = schema.findElement(name);
+		assertThat(element).isNotNull();
+		return element;
+	}
+}
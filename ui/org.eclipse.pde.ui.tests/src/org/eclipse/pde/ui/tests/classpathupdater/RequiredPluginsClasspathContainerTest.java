@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.classpathupdater;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that updates of the Plug-in Dependencies container are only passed on
+ * to JDT if they change the classpath of the project.
+ */
+public class RequiredPluginsClasspathContainerTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Test
+	public void testUnchangedClasspathIsSkipped() throws Exception {
+		IJavaProject jProject = ProjectUtils.createPluginProject("classpath.unchanged", null);
+		IProject project = jProject.getProject();
+		IClasspathContainer current = getContainer(jProject);
+		IPluginModelBase model = PluginRegistry.findModel(project);
+
+		RequiredPluginsClasspathContainer update = new RequiredPluginsClasspathContainer(model, project);
+		assertTrue("Container of the same model and entries must be skipped", update.isUnchanged(current));
+
+		// an update of the whole target re-computes all containers
+		PDECore.getDefault().getModelManager().targetReloaded(null);
+		TestUtils.waitForJobs("RequiredPluginsClasspathContainerTest", 100, 10000);
+		assertSame("Unchanged container must not be replaced", current, getContainer(jProject));
+	}
+
+	@Test
+	public void testChangedClasspathIsApplied() throws Exception {
+		IJavaProject jProject = ProjectUtils.createPluginProject("classpath.changed", null);
+		IProject project = jProject.getProject();
+		IClasspathContainer current = getContainer(jProject);
+		// compute the entries of the current container before the change
+		current.getClasspathEntries();
+
+		IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+		IBundleProjectDescription description = service.getDescription(project);
+		description.setRequiredBundles(new IRequiredBundleDescription[] {
+				service.newRequiredBundle("org.eclipse.core.runtime", null, false, false) });
+		description.apply(null);
+		TestUtils.waitForJobs("RequiredPluginsClasspathContainerTest", 100, 10000);
+
+		RequiredPluginsClasspathContainer update = new RequiredPluginsClasspathContainer(
+				PluginRegistry.findModel(project), project);
+		assertFalse("Container with new entries must be applied", update.isUnchanged(current));
+		IClasspathContainer applied = getContainer(jProject);
+		assertNotSame("Changed container must be replaced", current, applied);
+		assertTrue("Applied container must match the current model", update.isUnchanged(applied));
+	}
+
+	private static IClasspathContainer getContainer(IJavaProject jProject) throws Exception {
+		IClasspathContainer container = JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+				jProject);
+		assertNotNull("Could not find PDE classpath container", container);
+		return container;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the reuse of validation states by {@link BundleValidationOperation}
+ */
+public class BundleValidationOperationTest {
+
+	private static final String RUNTIME = "org.eclipse.core.runtime";
+	private static final String RESOURCES = "org.eclipse.core.resources";
+
+	@After
+	public void tearDown() {
+		BundleValidationOperation.flushCachedStates();
+	}
+
+	@Test
+	public void testStateIsReusedForSameBundles() throws Exception {
+		BundleValidationOperation first = validate(true, RUNTIME, RESOURCES);
+		BundleValidationOperation second = validate(true, RESOURCES, RUNTIME);
+		assertSame(first.getState(), second.getState());
+		assertEquals(first.hasErrors(), second.hasErrors());
+	}
+
+	@Test
+	public void testStateIsNotReusedForOtherBundles() throws Exception {
+		BundleValidationOperation first = validate(true, RUNTIME, RESOURCES);
+		BundleValidationOperation second = validate(true, RUNTIME);
+		assertNotSame(first.getState(), second.getState());
+	}
+
+	@Test
+	public void testStateIsNotReusedByDefault() throws Exception {
+		BundleValidationOperation first = validate(false, RUNTIME, RESOURCES);
+		BundleValidationOperation second = validate(false, RUNTIME, RESOURCES);
+		assertNotSame(first.getState(), second.getState());
+	}
+
+	@Test
+	public void testFlushDiscardsState() throws Exception {
+		BundleValidationOperation first = validate(true, RUNTIME, RESOURCES);
+		BundleValidationOperation.flushCachedStates();
+		BundleValidationOperation second = validate(true, RUNTIME, RESOURCES);
+		assertNotSame(first.getState(), second.getState());
+	}
+
+	@Test
+	public void testReusedStateReportsErrorsInSameOrder() throws Exception {
+		// validated without their dependencies, both bundles are unresolved
+		List<String> expected = getErrorBundles(validate(false, RUNTIME, RESOURCES));
+		assertEquals(2, expected.size());
+		assertEquals(expected, getErrorBundles(validate(true, RUNTIME, RESOURCES)));
+		// an incrementally resolved state
+		assertEquals(expected, getErrorBundles(validate(true, RUNTIME, RESOURCES)));
+	}
+
+	@Test
+	public void testReusedStateReportsErrorsLikeFreshState() throws Exception {
+		validate(true, RUNTIME, RESOURCES);
+		// the same bundles in another order
+		assertEquals(getErrorBundles(validate(false, RESOURCES, RUNTIME)),
+				getErrorBundles(validate(true, RESOURCES, RUNTIME)));
+		// a changed bundle is removed from the reused state and added again
+		Set<IPluginModelBase> models = new LinkedHashSet<>();
+		models.add(copy(PluginRegistry.findModel(RUNTIME)));
+		models.add(PluginRegistry.findModel(RESOURCES));
+		List<String> expected = getErrorBundles(validate(false, models));
+		assertEquals(List.of(RUNTIME, RESOURCES), expected);
+		assertEquals(expected, getErrorBundles(validate(true, models)));
+		models = new LinkedHashSet<>();
+		models.add(PluginRegistry.findModel(RESOURCES));
+		models.add(copy(PluginRegistry.findModel(RUNTIME)));
+		assertEquals(getErrorBundles(validate(false, models)), getErrorBundles(validate(true, models)));
+	}
+
+	private static IPluginModelBase copy(IPluginModelBase model) {
+		ExternalPluginModel copy = new ExternalPluginModel();
+		BundleDescription bundle = model.getBundleDescription();
+		copy.setBundleDescription(bundle.getContainingState().getFactory().createBundleDescription(bundle));
+		return copy;
+	}
+
+	private static BundleValidationOperation validate(boolean reuseState, String... ids) throws Exception {
+		Set<IPluginModelBase> models = new LinkedHashSet<>();
+		for (String id : ids) {
+			IPluginModelBase model = PluginRegistry.findModel(id);
+			assertNotNull("Missing " + id, model);
+			models.add(model);
+		}
+		return validate(reuseState, models);
+	}
+
+	private static BundleValidationOperation validate(boolean reuseState, Set<IPluginModelBase> models)
+			throws Exception {
+		@SuppressWarnings("unchecked")
+		Dictionary<String, String>[] properties = new Dictionary[] { TargetPlatformHelper.getTargetEnvironment() };
+		BundleValidationOperation operation = new BundleValidationOperation(models, properties, reuseState);
+		operation.run(null);
+		return operation;
+	}
+
+	private static List<String> getErrorBundles(BundleValidationOperation operation) {
+		assertTrue(operation.hasErrors());
+		List<String> names = new ArrayList<>();
+		for (Object bundle : operation.getResolverErrors().keySet()) {
+			names.add(((BundleDescription) bundle).getSymbolicName());
+		}
+		return names;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -66,6 +66,27 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 		}
 	}
 
+	/**
+	 * Tests that the problems of locations resolved concurrently are reported
+	 * in the order of the locations.
+	 */
+	@Test
+	public void testResolutionStatusOrder() throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		ITargetLocation[] locations = new ITargetLocation[10];
+		for (int i = 0; i < locations.length; i++) {
+			locations[i] = getTargetService().newDirectoryLocation("***SHOULD NOT EXIST " + i + "***");
+		}
+		definition.setTargetLocations(locations);
+		IStatus status = definition.resolve(null);
+		IStatus[] children = status.getChildren();
+		assertEquals("Wrong number of children", locations.length, children.length);
+		for (int i = 0; i < children.length; i++) {
+			assertTrue("Wrong status order", children[i].getMessage().contains("SHOULD NOT EXIST " + i + "***"));
+			assertTrue(locations[i].isResolved());
+		}
+	}
+
 	/**
 	 * Tests that if we find a bundle with a bad or missing manifest when
 	 * resolving we create the correct status.